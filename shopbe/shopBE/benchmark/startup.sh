@@ -0,0 +1,85 @@
+#!/usr/bin/env bash
+# 기동 방식별로 프로세스 시작부터 첫 요청 성공까지 걸린 시간(time-to-first-request)을 비교한다.
+#   jar      : 일반 실행
+#   aot      : -Dspring.aot.enabled=true
+#   cds      : 풀어 둔 jar + CDS 아카이브
+#   aot-cds  : AOT + CDS (Dockerfile.aot와 같은 실행 방식)
+#
+# 필요: 실행 중인 MySQL, application.yml
+# 사용: ./benchmark/startup.sh [반복 횟수]
+#   예) ./benchmark/startup.sh 5
+#
+# 추가 실행 옵션은 APP_ARGS로 넘긴다. 예) APP_ARGS="--log-trace.enabled=false" ./benchmark/startup.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-3}
+PORT=${PORT:-8080}
+URL="http://localhost:${PORT}${PROBE_PATH:-/banners}"
+APP_ARGS=${APP_ARGS:-}
+WORK_DIR=build/startup-benchmark
+
+./gradlew bootJar -Paot -q
+JAR=$(ls build/libs/*SNAPSHOT.jar | head -n 1)
+
+# CDS용으로 jar를 풀고 학습 실행으로 아카이브를 만든다.
+rm -rf "$WORK_DIR"
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK_DIR" > /dev/null
+EXTRACTED_JAR="$WORK_DIR/$(basename "$JAR")"
+java -XX:ArchiveClassesAtExit="$WORK_DIR/application.jsa" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+  -jar "$EXTRACTED_JAR" $APP_ARGS > "$WORK_DIR/training.log" 2>&1
+
+now_ms() {
+  date +%s%3N
+}
+
+# 한 번 기동해서 첫 요청이 성공할 때까지의 시간(ms)을 출력한다.
+measure() {
+  local start pid elapsed
+  start=$(now_ms)
+  "$@" --server.port="$PORT" $APP_ARGS > "$WORK_DIR/run.log" 2>&1 &
+  pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+
+  elapsed=""
+  for _ in $(seq 1 1200); do
+    if curl -sf -o /dev/null "$URL"; then
+      elapsed=$(( $(now_ms) - start ))
+      break
+    fi
+    if ! kill -0 "$pid" 2>/dev/null; then
+      break
+    fi
+    sleep 0.05
+  done
+
+  kill "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+
+  if [ -z "$elapsed" ]; then
+    echo "기동 실패 - ${WORK_DIR}/run.log 확인" >&2
+    exit 1
+  fi
+  echo "$elapsed"
+}
+
+run() {
+  local mode=$1
+  shift
+  local results=()
+  for _ in $(seq 1 "$RUNS"); do
+    results+=("$(measure "$@")")
+  done
+  local sorted median
+  sorted=$(printf '%s\n' "${results[@]}" | sort -n)
+  median=$(echo "$sorted" | sed -n "$(( (RUNS + 1) / 2 ))p")
+  printf '%-8s median %6d ms   (runs: %s)\n' "$mode" "$median" "$(echo $sorted)"
+}
+
+echo "==== time-to-first-request: GET ${URL} / ${RUNS} runs ===="
+run jar     java -jar "$JAR"
+run aot     java -Dspring.aot.enabled=true -jar "$JAR"
+run cds     java -XX:SharedArchiveFile="$WORK_DIR/application.jsa" -Xlog:cds=off -jar "$EXTRACTED_JAR"
+run aot-cds java -XX:SharedArchiveFile="$WORK_DIR/application.jsa" -Xlog:cds=off -Dspring.aot.enabled=true -jar "$EXTRACTED_JAR"
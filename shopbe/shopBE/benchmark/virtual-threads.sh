@@ -0,0 +1,59 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 모드와 가상 스레드 모드를 같은 부하로 비교한다.
+#
+# 필요: Java 21, wrk (https://github.com/wg/wrk), 실행 중인 MySQL, application.yml
+# 사용: ./benchmark/virtual-threads.sh [동시 연결 수] [측정 시간]
+#   예) ./benchmark/virtual-threads.sh 800 60s
+#
+# 응답 캐시를 끄고 실행하므로 모든 요청이 DB까지 내려간다.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+CONNECTIONS=${1:-400}
+DURATION=${2:-30s}
+THREADS=${WRK_THREADS:-8}
+PORT=${PORT:-8080}
+PRODUCT_ID=${PRODUCT_ID:-1}
+BASE_URL="http://localhost:${PORT}"
+
+./gradlew bootJar -PjavaVersion=21 -q
+JAR=$(ls build/libs/*SNAPSHOT.jar | head -n 1)
+
+run() {
+  local mode=$1
+  local profile_args=()
+  if [ "$mode" = "virtual" ]; then
+    profile_args=(--spring.profiles.active=virtual)
+  fi
+
+  java -jar "$JAR" --server.port="$PORT" --response-cache.enabled=false "${profile_args[@]}" \
+    > "build/benchmark-${mode}.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+
+  # 기동 대기
+  for _ in $(seq 1 120); do
+    if curl -sf -o /dev/null "${BASE_URL}/banners"; then
+      break
+    fi
+    sleep 1
+  done
+
+  # 워밍업 후 측정
+  wrk -t"$THREADS" -c"$CONNECTIONS" -d10s "${BASE_URL}/products" > /dev/null
+
+  echo "==== ${mode} threads / ${CONNECTIONS} connections / ${DURATION} ===="
+  for path in "/products" "/products?sortingOption=BEST_SELLERS" "/products/${PRODUCT_ID}" "/banners"; do
+    echo "-- GET ${path}"
+    wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency "${BASE_URL}${path}" \
+      | grep -E "Requests/sec|Latency|50%|99%|Socket errors|Non-2xx"
+  done
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+run platform
+run virtual
@@ -14,7 +14,7 @@ import shop.shopBE.domain.authorityrequestfile.service.AuthorityRequestFileServi
 import shop.shopBE.domain.member.entity.Member;
 import shop.shopBE.domain.member.entity.enums.Role;
 import shop.shopBE.global.exception.custom.CustomException;
-import shop.shopBE.global.utils.s3.S3Utils;
+import shop.shopBE.global.utils.storage.StorageUtils;
 
 import java.util.List;
 
@@ -25,7 +25,7 @@ public class AuthorityRequestService {
 
     private final AuthorityRequestRepository authorityRequestRepository;
     private final AuthorityRequestFileService authorityRequestFileService;
-    private final S3Utils s3Utils;
+    private final StorageUtils storageUtils;
 
     @Transactional
     public void save(String content,  List<MultipartFile> files, Member member) {
@@ -63,7 +63,7 @@ public class AuthorityRequestService {
         return files.stream()
                 .map(file -> {
                     String originFileName = file.getOriginalFilename();
-                    String savedName = s3Utils.uploadFile(file);
+                    String savedName = storageUtils.uploadFile(file);
                     return new FileData(originFileName, savedName);
                 })
                 .toList();
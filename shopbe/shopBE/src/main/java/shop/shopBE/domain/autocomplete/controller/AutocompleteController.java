@@ -0,0 +1,30 @@
+package shop.shopBE.domain.autocomplete.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import shop.shopBE.domain.autocomplete.response.AutocompleteSuggestion;
+import shop.shopBE.domain.autocomplete.service.AutocompleteService;
+import shop.shopBE.global.response.ResponseFormat;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "상품 자동완성", description = "상품명 자동완성 관련 API")
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    @GetMapping("/products/autocomplete")
+    @Operation(summary = "상품명 자동완성", description = "입력한 글자로 시작하는 상품명을 찜 많은 순으로 추천한다.")
+    public ResponseEntity<ResponseFormat<List<AutocompleteSuggestion>>> autocomplete(@RequestParam(name = "q") String query,
+                                                                                      @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        List<AutocompleteSuggestion> suggestions = autocompleteService.suggest(query, limit);
+        return ResponseEntity.ok().body(ResponseFormat.of("상품명 자동완성 조회 성공", suggestions));
+    }
+}
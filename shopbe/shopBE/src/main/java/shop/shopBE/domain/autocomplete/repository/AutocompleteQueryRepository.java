@@ -0,0 +1,49 @@
+package shop.shopBE.domain.autocomplete.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import shop.shopBE.domain.autocomplete.response.AutocompleteProduct;
+
+import java.util.Collection;
+import java.util.List;
+
+import static shop.shopBE.domain.product.entity.QProduct.product;
+
+// 자동완성 색인용 상품 조회
+@Repository
+@RequiredArgsConstructor
+public class AutocompleteQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    // 전체 색인 생성 시 기본키 순서로 나누어 읽는다.
+    public List<AutocompleteProduct> findProductsAfter(Long lastId, int limit) {
+        return queryFactory
+                .select(Projections.constructor(AutocompleteProduct.class,
+                        product.id,
+                        product.productName,
+                        product.likeCount,
+                        product.isDeleted
+                ))
+                .from(product)
+                .where(product.id.gt(lastId))
+                .orderBy(product.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public List<AutocompleteProduct> findProducts(Collection<Long> productIds) {
+        return queryFactory
+                .select(Projections.constructor(AutocompleteProduct.class,
+                        product.id,
+                        product.productName,
+                        product.likeCount,
+                        product.isDeleted
+                ))
+                .from(product)
+                .where(product.id.in(productIds))
+                .fetch();
+    }
+}
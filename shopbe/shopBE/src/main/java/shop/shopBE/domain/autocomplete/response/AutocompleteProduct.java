@@ -0,0 +1,8 @@
+package shop.shopBE.domain.autocomplete.response;
+
+// 자동완성 색인에 필요한 상품 정보
+public record AutocompleteProduct(Long productId,
+                                  String productName,
+                                  int likeCount,
+                                  boolean isDeleted) {
+}
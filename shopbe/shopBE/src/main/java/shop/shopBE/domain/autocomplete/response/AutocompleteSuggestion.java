@@ -0,0 +1,6 @@
+package shop.shopBE.domain.autocomplete.response;
+
+// 자동완성 추천 결과
+public record AutocompleteSuggestion(Long productId,
+                                     String productName) {
+}
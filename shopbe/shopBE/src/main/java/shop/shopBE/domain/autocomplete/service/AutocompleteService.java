@@ -0,0 +1,95 @@
+package shop.shopBE.domain.autocomplete.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shop.shopBE.domain.autocomplete.repository.AutocompleteQueryRepository;
+import shop.shopBE.domain.autocomplete.response.AutocompleteProduct;
+import shop.shopBE.domain.autocomplete.response.AutocompleteSuggestion;
+import shop.shopBE.domain.product.event.ProductChangedEvent;
+import shop.shopBE.global.utils.index.IncrementalIndexer;
+
+import java.util.List;
+
+// 상품명 자동완성
+// 시작 시 전체 상품으로 색인을 만들고, 이후에는 상품 추가/수정/삭제, 찜 수 변경 이벤트로 바뀐 상품만 다시 읽어 반영한다.
+// 색인 변경은 하나의 작업 스레드에서 처리하고, 조회는 요청 스레드에서 잠금 없이 처리한다.
+@Service
+public class AutocompleteService {
+
+    private final AutocompleteQueryRepository autocompleteQueryRepository;
+    private final ProductNameTrie trie;
+    private final Indexer indexer;
+    private final int topK;
+
+    public AutocompleteService(AutocompleteQueryRepository autocompleteQueryRepository,
+                               @Value("${autocomplete.top-k:10}") int topK,
+                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.autocompleteQueryRepository = autocompleteQueryRepository;
+        this.topK = topK;
+        this.trie = new ProductNameTrie(topK);
+        this.indexer = new Indexer(virtualThreads);
+    }
+
+    public List<AutocompleteSuggestion> suggest(String query, int limit) {
+        return trie.suggest(query, Math.max(1, Math.min(limit, topK))).stream()
+                .map(entry -> new AutocompleteSuggestion(entry.productId(), entry.productName()))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        indexer.start();
+    }
+
+    // 찜 수는 추천 순서에 쓰이므로 찜 수만 바뀐 경우에도 반영한다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        indexer.markChanged(event.productId());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexer.shutdown();
+    }
+
+    private class Indexer extends IncrementalIndexer<AutocompleteProduct> {
+
+        Indexer(boolean virtualThreads) {
+            super("autocomplete-indexer", "자동완성", virtualThreads);
+        }
+
+        @Override
+        protected List<AutocompleteProduct> findAfter(long lastId, int limit) {
+            return autocompleteQueryRepository.findProductsAfter(lastId, limit);
+        }
+
+        @Override
+        protected List<AutocompleteProduct> findByIds(List<Long> ids) {
+            return autocompleteQueryRepository.findProducts(ids);
+        }
+
+        @Override
+        protected Long idOf(AutocompleteProduct product) {
+            return product.productId();
+        }
+
+        @Override
+        protected void apply(AutocompleteProduct product) {
+            if (product.isDeleted() || product.productName() == null) {
+                trie.remove(product.productId());
+                return;
+            }
+            trie.put(product.productId(), product.productName(), product.likeCount());
+        }
+
+        @Override
+        protected void remove(Long productId) {
+            trie.remove(productId);
+        }
+    }
+}
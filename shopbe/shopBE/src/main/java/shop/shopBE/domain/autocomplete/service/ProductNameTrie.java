@@ -0,0 +1,171 @@
+package shop.shopBE.domain.autocomplete.service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+// 상품명 접두어 트리
+// 각 노드는 하위 트리에 속한 상품 중 찜 수 상위 k개를 미리 계산해 둔다.
+// 조회는 잠금 없이 접두어 길이만큼 내려가서 노드의 목록을 그대로 반환하므로 상품 수와 관계없이 일정한 시간이 걸린다.
+// 변경은 하나의 잠금 안에서 바뀐 경로의 노드만 아래에서 위로 다시 계산한다. (노드의 상위 k개 = 이 노드에서 끝나는 상품 + 자식 노드들의 상위 k개)
+public class ProductNameTrie {
+
+    // 너무 긴 상품명은 앞부분만 색인한다.
+    private static final int MAX_KEY_LENGTH = 40;
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingInt(Entry::likeCount).reversed()
+            .thenComparing(Entry::productId, Comparator.reverseOrder());
+
+    public record Entry(Long productId, String productName, int likeCount) {
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new ConcurrentHashMap<>();
+        private final Map<Long, Entry> terminals = new HashMap<>(); // 변경 잠금 안에서만 접근
+        private volatile List<Entry> top = List.of();
+    }
+
+    private final int topK;
+    private final Node root = new Node();
+    private final Map<Long, Entry> entries = new HashMap<>(); // 변경 잠금 안에서만 접근
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public ProductNameTrie(int topK) {
+        this.topK = topK;
+    }
+
+    public List<Entry> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.get(key.charAt(i));
+            if (node == null) {
+                return List.of();
+            }
+        }
+
+        List<Entry> top = node.top;
+        return top.size() <= limit ? top : top.subList(0, limit);
+    }
+
+    // 상품 추가 또는 상품명, 찜 수 변경
+    public void put(Long productId, String productName, int likeCount) {
+        Entry entry = new Entry(productId, productName, likeCount);
+        writeLock.lock();
+        try {
+            Entry old = entries.put(productId, entry);
+            if (entry.equals(old)) {
+                return;
+            }
+            if (old != null) {
+                for (String key : keys(old.productName())) {
+                    update(key, node -> node.terminals.remove(productId));
+                }
+            }
+            for (String key : keys(productName)) {
+                update(key, node -> node.terminals.put(productId, entry));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        writeLock.lock();
+        try {
+            Entry old = entries.remove(productId);
+            if (old == null) {
+                return;
+            }
+            for (String key : keys(old.productName())) {
+                update(key, node -> node.terminals.remove(productId));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        writeLock.lock();
+        try {
+            return entries.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 키의 경로를 만들고 마지막 노드를 변경한 뒤, 경로의 노드를 아래에서 위로 다시 계산한다.
+    private void update(String key, Consumer<Node> change) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+
+        change.accept(path[key.length()]);
+
+        for (int i = key.length(); i >= 0; i--) {
+            Node node = path[i];
+            if (i > 0 && node.terminals.isEmpty() && node.children.isEmpty()) {
+                path[i - 1].children.remove(key.charAt(i - 1));
+                node.top = List.of();
+                continue;
+            }
+            node.top = computeTop(node);
+        }
+    }
+
+    private List<Entry> computeTop(Node node) {
+        List<Entry> candidates = new ArrayList<>(node.terminals.values());
+        for (Node child : node.children.values()) {
+            candidates.addAll(child.top);
+        }
+        candidates.sort(ORDER);
+
+        // 같은 상품이 여러 키(단어 시작 위치)로 들어간 경우 한 번만 포함
+        List<Entry> top = new ArrayList<>(Math.min(topK, candidates.size()));
+        Set<Long> seen = new HashSet<>();
+        for (Entry candidate : candidates) {
+            if (top.size() == topK) {
+                break;
+            }
+            if (seen.add(candidate.productId())) {
+                top.add(candidate);
+            }
+        }
+        return List.copyOf(top);
+    }
+
+    // 상품명 전체와 각 단어로 시작하는 부분을 키로 사용한다. ("나이키 에어맥스" -> "나이키 에어맥스", "에어맥스")
+    private Set<String> keys(String productName) {
+        String name = normalize(productName);
+        Set<String> keys = new LinkedHashSet<>();
+        if (name.isEmpty()) {
+            return keys;
+        }
+
+        keys.add(truncate(name));
+        for (int i = name.indexOf(' '); i >= 0; i = name.indexOf(' ', i + 1)) {
+            if (i + 1 < name.length()) {
+                keys.add(truncate(name.substring(i + 1)));
+            }
+        }
+        return keys;
+    }
+
+    private static String truncate(String key) {
+        return key.length() <= MAX_KEY_LENGTH ? key : key.substring(0, MAX_KEY_LENGTH);
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
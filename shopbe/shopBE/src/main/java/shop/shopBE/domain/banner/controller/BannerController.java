@@ -3,13 +3,16 @@ package shop.shopBE.domain.banner.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import shop.shopBE.domain.banner.request.BannerUpdateRequestForDelete;
 import shop.shopBE.domain.banner.response.BannerResponse;
+import shop.shopBE.domain.banner.response.BannerSnapshot;
 import shop.shopBE.domain.banner.service.BannerFacadeService;
 import shop.shopBE.global.config.security.mapper.token.AuthToken;
 import shop.shopBE.global.response.ResponseFormat;
@@ -34,9 +37,18 @@ public class BannerController {
 
     @GetMapping("/banners")
     @Operation(summary = "배너 사진 조회", description = "모든 사용자는 배너 사진을 조회할 수 있다.")
-    public ResponseEntity<ResponseFormat<List<BannerResponse>>> getBanners() {
-        List<BannerResponse> banners = bannerFacadeService.getBanners();
-        return ResponseEntity.ok().body(ResponseFormat.of("배너 조회 성공", banners));
+    public ResponseEntity<ResponseFormat<List<BannerResponse>>> getBanners(WebRequest webRequest) {
+        BannerSnapshot snapshot = bannerFacadeService.getBanners();
+
+        // 클라이언트가 가진 목록과 같으면 본문 없이 304 반환
+        if (webRequest.checkNotModified(snapshot.eTag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(snapshot.eTag())
+                .cacheControl(CacheControl.noCache().cachePublic()) // 매번 ETag로 재검증
+                .body(ResponseFormat.of("배너 조회 성공", snapshot.banners()));
     }
 
     @DeleteMapping("/banner/{bannerId}")
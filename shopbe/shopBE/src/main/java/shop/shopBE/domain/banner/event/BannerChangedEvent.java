@@ -0,0 +1,5 @@
+package shop.shopBE.domain.banner.event;
+
+// 배너가 추가, 수정, 삭제되었음을 알리는 이벤트. 커밋 이후 배너 캐시를 다시 만든다.
+public record BannerChangedEvent() {
+}
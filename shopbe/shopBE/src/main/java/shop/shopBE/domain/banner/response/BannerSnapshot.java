@@ -0,0 +1,11 @@
+package shop.shopBE.domain.banner.response;
+
+import java.util.List;
+
+// 캐시된 배너 목록. eTag는 목록 내용의 해시이므로 인스턴스가 달라도 같은 목록이면 같은 값을 가진다.
+public record BannerSnapshot(
+        List<BannerResponse> banners,
+        String eTag,
+        long builtAtNanos
+) {
+}
@@ -0,0 +1,85 @@
+package shop.shopBE.domain.banner.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shop.shopBE.domain.banner.event.BannerChangedEvent;
+import shop.shopBE.domain.banner.response.BannerResponse;
+import shop.shopBE.domain.banner.response.BannerSnapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 배너 목록을 메모리에 보관한다. 배너가 바뀌면 커밋 이후 다시 만들고,
+// 다른 인스턴스에서 바뀐 경우를 위해 ttl이 지나면 DB에서 다시 읽는다.
+@Component
+@RequiredArgsConstructor
+public class BannerCache {
+
+    private final BannerService bannerService;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile BannerSnapshot snapshot;
+
+    @Value("${banner.cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    public BannerSnapshot get() {
+        BannerSnapshot current = snapshot;
+        if (current != null && !isExpired(current)) {
+            return current;
+        }
+
+        // 동시에 만료된 요청 중 하나만 DB를 조회한다.
+        rebuildLock.lock();
+        try {
+            current = snapshot;
+            if (current == null || isExpired(current)) {
+                current = rebuild();
+            }
+            return current;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBannerChanged(BannerChangedEvent event) {
+        rebuildLock.lock();
+        try {
+            rebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private BannerSnapshot rebuild() {
+        List<BannerResponse> banners = List.copyOf(bannerService.getBanners());
+        BannerSnapshot rebuilt = new BannerSnapshot(banners, createETag(banners), System.nanoTime());
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    private boolean isExpired(BannerSnapshot current) {
+        return System.nanoTime() - current.builtAtNanos() > TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    private String createETag(List<BannerResponse> banners) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (BannerResponse banner : banners) {
+                digest.update((banner.bannerId() + ":" + banner.imageUrl() + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
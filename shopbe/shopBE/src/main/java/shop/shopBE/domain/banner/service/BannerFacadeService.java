@@ -5,7 +5,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import shop.shopBE.domain.banner.entity.Banner;
 import shop.shopBE.domain.banner.request.BannerUpdateRequestForDelete;
-import shop.shopBE.domain.banner.response.BannerResponse;
+import shop.shopBE.domain.banner.response.BannerSnapshot;
 import shop.shopBE.domain.member.entity.Member;
 import shop.shopBE.domain.member.service.MemberService;
 
@@ -17,14 +17,16 @@ import java.util.List;
 public class BannerFacadeService {
     private final BannerService bannerService;
     private final MemberService memberService;
+    private final BannerCache bannerCache;
 
     public void saveBanners(List<MultipartFile> files, Long memberId) {
         Member member = memberService.findById(memberId);
         bannerService.save(files, member);
     }
 
-    public List<BannerResponse> getBanners() {
-        return bannerService.getBanners();
+    // DB 대신 캐시된 배너 목록을 반환한다.
+    public BannerSnapshot getBanners() {
+        return bannerCache.get();
     }
 
     public void deleteById(Long bannerId) {
@@ -1,17 +1,19 @@
 package shop.shopBE.domain.banner.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import shop.shopBE.domain.authorityrequestfile.request.FileData;
 import shop.shopBE.domain.banner.entity.Banner;
+import shop.shopBE.domain.banner.event.BannerChangedEvent;
 import shop.shopBE.domain.banner.exception.BannerExceptionCode;
 import shop.shopBE.domain.banner.repository.BannerRepository;
 import shop.shopBE.domain.banner.response.BannerResponse;
 import shop.shopBE.domain.member.entity.Member;
 import shop.shopBE.global.exception.custom.CustomException;
-import shop.shopBE.global.utils.s3.S3Utils;
+import shop.shopBE.global.utils.storage.StorageUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,13 +23,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BannerService {
     private final BannerRepository bannerRepository;
-    private final S3Utils s3Utils;
+    private final StorageUtils storageUtils;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void save(List<MultipartFile> files, Member member) {
         List<FileData> fileData = uploadFiles(files);
         List<Banner> banners = setBanners(fileData, member);
         bannerRepository.saveAll(banners);
+        eventPublisher.publishEvent(new BannerChangedEvent());
     }
 
     @Transactional
@@ -40,6 +44,7 @@ public class BannerService {
 
         // 새로운 배너 레코드 추가
         bannerRepository.saveAll(bannersToSave);
+        eventPublisher.publishEvent(new BannerChangedEvent());
     }
 
 
@@ -55,10 +60,11 @@ public class BannerService {
                 .orElseThrow(() -> new CustomException(BannerExceptionCode.BANNER_NOT_FOUND));
 
         // s3의 파일 삭제
-        s3Utils.deleteFile(banner.getSavedImageName());
+        storageUtils.deleteFile(banner.getSavedImageName());
 
         // 배너 데이터 삭제
         bannerRepository.deleteById(bannerId);
+        eventPublisher.publishEvent(new BannerChangedEvent());
     }
 
     public Banner findById(Long bannerId) {
@@ -80,7 +86,7 @@ public class BannerService {
         return files.stream()
                 .map(file -> {
                     String originFileName = file.getOriginalFilename();
-                    String savedName = s3Utils.uploadFile(file);
+                    String savedName = storageUtils.uploadFile(file);
                     return new FileData(originFileName, savedName);
                 })
                 .toList();
@@ -93,7 +99,7 @@ public class BannerService {
             result = files.stream()
                     .map(file -> {
                         String originalName = file.getOriginalFilename();
-                        String savedName = s3Utils.uploadFile(file);
+                        String savedName = storageUtils.uploadFile(file);
                         return Banner.createDefaultBanner(originalName, savedName, member);
                     })
                     .toList();
@@ -105,7 +111,7 @@ public class BannerService {
 
     private void deleteBanners(List<Banner> banners) {
         for (Banner banner : banners) {
-            s3Utils.deleteFile(banner.getSavedImageName());
+            storageUtils.deleteFile(banner.getSavedImageName());
             bannerRepository.deleteById(banner.getId());
         }
     }
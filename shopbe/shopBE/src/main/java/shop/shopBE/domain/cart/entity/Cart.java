@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import shop.shopBE.domain.member.entity.Member;
 
 @Entity
@@ -12,6 +14,8 @@ import shop.shopBE.domain.member.entity.Member;
 @AllArgsConstructor
 @Builder
 @Getter
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "cart")
 public class Cart {
 
     @Id
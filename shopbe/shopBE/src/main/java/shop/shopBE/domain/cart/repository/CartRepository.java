@@ -1,6 +1,9 @@
 package shop.shopBE.domain.cart.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import shop.shopBE.domain.cart.entity.Cart;
 
@@ -9,5 +12,8 @@ import java.util.Optional;
 
 
 public interface CartRepository extends JpaRepository<Cart, Long> {
+
+    // 회원별 장바구니 id는 거의 바뀌지 않으므로 쿼리 캐시에 둔다. (cart 테이블이 바뀌면 자동으로 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Cart> findByMemberId(Long MemberId);
 }
@@ -31,13 +31,17 @@ public class CartService {
 
     //카트 아이템 조회 메서드
     public List<CartItemInformResp> findCartItemList(Pageable pageable, Long memberId) {
-        Member member = memberService.findById(memberId);
+        memberService.findById(memberId);
 
-        //멤버의 장바구니가 없으면 만들어서반환 있으면있는것 반환
-        Cart cart = findCartByMemberId(memberId).orElseGet(() -> createCart(member));
+        // 읽기 전용 트랜잭션(레플리카)에서 장바구니를 만들지 않는다. 장바구니가 없으면 빈 목록 반환
+        // 장바구니는 상품을 처음 담을 때 addCartItem에서 만들어진다.
+        Optional<Cart> cart = findCartByMemberId(memberId);
+        if (cart.isEmpty()) {
+            return List.of();
+        }
 
         //카트아이템 리스트 반환
-        return cartItemService.findCartItemInformsByCartId(cart.getId(), pageable);
+        return cartItemService.findCartItemInformsByCartId(cart.get().getId(), pageable);
     }
 
 
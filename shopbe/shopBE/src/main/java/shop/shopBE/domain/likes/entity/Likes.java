@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import shop.shopBE.domain.member.entity.Member;
 
 @Entity
@@ -12,6 +14,8 @@ import shop.shopBE.domain.member.entity.Member;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "likes")
 public class Likes {
 
     @Id
@@ -19,6 +23,6 @@ public class Likes {
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "member_id")
+    @JoinColumn(name = "member_id", unique = true) // 회원당 찜 보관함 하나
     private Member member;
 }
@@ -2,12 +2,12 @@ package shop.shopBE.domain.likes.repository;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import shop.shopBE.domain.likes.entity.Likes;
 
 import java.util.Optional;
 
 import static shop.shopBE.domain.likes.entity.QLikes.*;
-import static shop.shopBE.domain.member.entity.QMember.*;
 
 
 @RequiredArgsConstructor
@@ -17,10 +17,12 @@ public class LikesRepositoryCustomImpl implements LikesRepositoryCustom {
 
     @Override
     public Optional<Likes> findLikesIdByMemberId(Long memberId) {
+        // 회원별 찜 보관함 id는 거의 바뀌지 않으므로 쿼리 캐시에 둔다. (likes 테이블이 바뀌면 자동으로 무효화)
         Likes result = queryFactory
                 .select(likes)
                 .from(likes)
-                .innerJoin(member).on(likes.member.id.eq(memberId))
+                .where(likes.member.id.eq(memberId))
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
                 .fetchOne();
 
 
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
 import shop.shopBE.domain.likesitem.request.LikesItemDeleteInfo;
 import shop.shopBE.domain.likesitem.request.LikesItemInfo;
 import shop.shopBE.domain.likesitem.request.LikesPaging;
+import shop.shopBE.domain.likesitem.response.LikesItemSlice;
 import shop.shopBE.domain.likesitem.service.LikesItemFacadeService;
 import shop.shopBE.domain.likesitem.service.LikesItemService;
 import shop.shopBE.domain.product.response.ProductListViewModel;
@@ -25,6 +26,8 @@ import java.util.List;
 @Tag(name = "찜 아이템", description = "찜 아이템 관련 API")
 public class LikesItemController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final LikesItemFacadeService likesItemFacadeService;
 
     @PostMapping("/likes/item")
@@ -36,18 +39,20 @@ public class LikesItemController {
     }
 
     @GetMapping("/likes/items")
-    @Operation(summary = "찜 아이템 조회", description = "현재 로그인 한 회원의 찜아이템 목록을 조회한다.")
-    public ResponseEntity<ResponseFormat<List<ProductListViewModel>>> getLikesItems(@PageableDefault Pageable pageable,
-                                                                                    @AuthenticationPrincipal AuthToken authToken) {
-        List<ProductListViewModel> likesItems = likesItemFacadeService.findLikesItems(pageable, authToken.getId());
+    @Operation(summary = "찜 아이템 조회", description = "현재 로그인 한 회원의 찜아이템 목록을 최근 찜한 순으로 조회한다. 다음 페이지는 응답의 nextCursor를 cursor로 전달한다.")
+    public ResponseEntity<ResponseFormat<LikesItemSlice>> getLikesItems(@RequestParam(name = "cursor", required = false) Long cursor,
+                                                                        @RequestParam(name = "size", defaultValue = "20") int size,
+                                                                        @AuthenticationPrincipal AuthToken authToken) {
+        LikesItemSlice likesItems = likesItemFacadeService.findLikesItems(cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE)), authToken.getId());
         return ResponseEntity.ok().body(ResponseFormat.of("찜 아이템 조회 성공.", likesItems));
     }
 
     @DeleteMapping("/likes/item/{likesItemId}")
     @Operation(summary = "찜 아이템 삭제", description = "현재 로그인 한 회원의 찜 아이템 1개를 삭제한다.")
     public ResponseEntity<ResponseFormat<Void>> deleteLikesItem(@PathVariable(name = "likesItemId") Long likesItemId,
-                                                               @RequestParam(name = "productId") Long productId) {
-        likesItemFacadeService.deleteById(likesItemId, productId);
+                                                               @RequestParam(name = "productId") Long productId,
+                                                               @AuthenticationPrincipal AuthToken authToken) {
+        likesItemFacadeService.deleteById(likesItemId, productId, authToken.getId());
         return ResponseEntity.ok().body(ResponseFormat.of("찜 아이템 삭제에 성공했습니다."));
     }
 }
@@ -8,11 +8,18 @@ import lombok.NoArgsConstructor;
 import shop.shopBE.domain.likes.entity.Likes;
 import shop.shopBE.domain.product.entity.Product;
 
+import java.time.LocalDateTime;
+
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Builder
+@Table(indexes = {
+        @Index(name = "idx_likes_item_likes_id", columnList = "likes_id, id") // 찜 목록 커서 조회용
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_likes_item_likes_product", columnNames = {"likes_id", "product_id"}) // 같은 상품 중복 찜 방지
+})
 public class LikesItem {
 
     @Id
@@ -27,10 +34,14 @@ public class LikesItem {
     @JoinColumn(name = "product_id")
     private Product product;
 
+    // 찜한 시각 (급상승 순위 계산에 사용)
+    private LocalDateTime createdAt;
+
     public static LikesItem createLikesItem(Likes likes, Product product) {
         return LikesItem.builder()
                 .likes(likes)
                 .product(product)
+                .createdAt(LocalDateTime.now())
                 .build();
     }
 }
@@ -0,0 +1,5 @@
+package shop.shopBE.domain.likesitem.event;
+
+// 회원의 찜 상품이 추가(liked=true) 또는 삭제(liked=false)되었을 때 발행
+public record LikesItemChangedEvent(Long memberId, Long productId, boolean liked) {
+}
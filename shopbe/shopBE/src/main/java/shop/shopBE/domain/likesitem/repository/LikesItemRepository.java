@@ -1,8 +1,33 @@
 package shop.shopBE.domain.likesitem.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import shop.shopBE.domain.likesitem.entity.LikesItem;
 
+import java.time.LocalDateTime;
+
 public interface LikesItemRepository extends JpaRepository<LikesItem, Long>, LikesItemRepositoryCustom {
 
+    // 찜 추가. 이미 같은 찜이 있으면 아무것도 넣지 않고 0을, 새로 넣으면 1을 반환한다. (유니크 인덱스 uk_likes_item_likes_product)
+    // insert ignore는 외래 키 오류도 경고로 바꾸므로, 상품은 호출 전에 찜숫자 증가로 확인하고 찜 보관함은 호출하는 쪽에서 만들어 둔다.
+    // 네이티브 수정 쿼리는 바뀌는 테이블을 알려주지 않으면 2차 캐시 전체를 비우므로 likes_item만 지정한다.
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "likes_item"))
+    @Query(value = "insert ignore into likes_item (likes_id, product_id, created_at) " +
+            "values (:likesId, :productId, :createdAt)", nativeQuery = true)
+    int insertIfAbsent(@Param("likesId") Long likesId,
+                       @Param("productId") Long productId,
+                       @Param("createdAt") LocalDateTime createdAt);
+
+    // 찜 삭제: 본인 찜 보관함의 행만 지운다. 실제로 삭제된 행 수(0 또는 1)를 반환한다.
+    @Modifying(flushAutomatically = true)
+    @Query("delete from LikesItem li where li.id = :likesItemId and li.likes.id = :likesId and li.product.id = :productId")
+    int deleteByIdAndLikesIdAndProductId(@Param("likesItemId") Long likesItemId,
+                                         @Param("likesId") Long likesId,
+                                         @Param("productId") Long productId);
 }
@@ -9,4 +9,7 @@ import java.util.Optional;
 public interface LikesItemRepositoryCustom {
     Optional<List<Long>> getLikesItems(Pageable pageable, Long likesId);
     Optional<Long> findOneProductIdByLikesId(Long likesId);
+
+    // 회원이 찜한 상품 id 전체 (찜 상품 집합 캐시용)
+    List<Long> findProductIdsByMemberId(Long memberId);
 }
@@ -41,5 +41,14 @@ public class LikesItemRepositoryCustomImpl implements LikesItemRepositoryCustom
         return Optional.ofNullable(productId);
     }
 
+    @Override
+    public List<Long> findProductIdsByMemberId(Long memberId) {
+        return queryFactory
+                .select(likesItem.product.id)
+                .from(likesItem)
+                .where(likesItem.likes.member.id.eq(memberId))
+                .fetch();
+    }
+
 
 }
@@ -0,0 +1,62 @@
+package shop.shopBE.domain.likesitem.response;
+
+import java.util.Arrays;
+
+// 회원이 찜한 상품 id 집합. 정렬된 long 배열로 보관하고 이진 탐색으로 포함 여부를 확인한다.
+// 변경할 때는 새 객체를 만든다.
+public final class LikedProducts {
+
+    public static final LikedProducts EMPTY = new LikedProducts(new long[0]);
+
+    private final long[] productIds;
+    private final int hash;
+
+    private LikedProducts(long[] sortedProductIds) {
+        this.productIds = sortedProductIds;
+        this.hash = Arrays.hashCode(sortedProductIds);
+    }
+
+    public static LikedProducts of(long[] productIds) {
+        long[] sorted = Arrays.stream(productIds).distinct().sorted().toArray();
+        return new LikedProducts(sorted);
+    }
+
+    public boolean contains(Long productId) {
+        return productId != null && Arrays.binarySearch(productIds, productId) >= 0;
+    }
+
+    public LikedProducts with(Long productId) {
+        int index = Arrays.binarySearch(productIds, productId);
+        if (index >= 0) {
+            return this;
+        }
+
+        int insertAt = -index - 1;
+        long[] added = new long[productIds.length + 1];
+        System.arraycopy(productIds, 0, added, 0, insertAt);
+        added[insertAt] = productId;
+        System.arraycopy(productIds, insertAt, added, insertAt + 1, productIds.length - insertAt);
+        return new LikedProducts(added);
+    }
+
+    public LikedProducts without(Long productId) {
+        int index = Arrays.binarySearch(productIds, productId);
+        if (index < 0) {
+            return this;
+        }
+
+        long[] removed = new long[productIds.length - 1];
+        System.arraycopy(productIds, 0, removed, 0, index);
+        System.arraycopy(productIds, index + 1, removed, index, productIds.length - index - 1);
+        return new LikedProducts(removed);
+    }
+
+    public int size() {
+        return productIds.length;
+    }
+
+    // 찜 목록이 바뀌면 달라지는 값 (ETag 생성용)
+    public int version() {
+        return hash * 31 + productIds.length;
+    }
+}
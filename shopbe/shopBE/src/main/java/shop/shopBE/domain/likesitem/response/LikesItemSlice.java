@@ -0,0 +1,11 @@
+package shop.shopBE.domain.likesitem.response;
+
+import shop.shopBE.domain.product.response.ProductListViewModel;
+
+import java.util.List;
+
+// 찜 목록 한 페이지. 다음 페이지는 nextCursor를 cursor로 전달해서 조회한다. (마지막 페이지면 null)
+public record LikesItemSlice(List<ProductListViewModel> likesItems,
+                             Long nextCursor,
+                             boolean hasNext) {
+}
@@ -0,0 +1,100 @@
+package shop.shopBE.domain.likesitem.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shop.shopBE.domain.likesitem.event.LikesItemChangedEvent;
+import shop.shopBE.domain.likesitem.repository.LikesItemRepository;
+import shop.shopBE.domain.likesitem.response.LikedProducts;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 회원별 찜 상품 id 집합 캐시 (최근 사용 순으로 최대 개수 유지)
+// 찜 추가/삭제는 커밋 후 이벤트로 캐시된 집합에 바로 반영하고, 다른 인스턴스의 변경은 TTL이 지나면 반영된다.
+@Slf4j
+@Component
+public class LikedProductCache {
+
+    private record Entry(LikedProducts likedProducts, long loadedAtNanos) {
+    }
+
+    private final LikesItemRepository likesItemRepository;
+    private final int maxMembers;
+    private final long ttlNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 캐시에 없는 회원의 찜 목록이 바뀐 횟수. DB에서 읽는 동안 바뀌었으면 읽은 값을 캐시하지 않는다.
+    private long missedChanges = 0;
+
+    public LikedProductCache(LikesItemRepository likesItemRepository,
+                             @Value("${likes.cache.max-members:10000}") int maxMembers,
+                             @Value("${likes.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.likesItemRepository = likesItemRepository;
+        this.maxMembers = maxMembers;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    public LikedProducts get(Long memberId) {
+        long changesBeforeLoad;
+        lock.lock();
+        try {
+            Entry entry = entries.get(memberId);
+            if (entry != null && System.nanoTime() - entry.loadedAtNanos() < ttlNanos) {
+                return entry.likedProducts();
+            }
+            changesBeforeLoad = missedChanges;
+        } finally {
+            lock.unlock();
+        }
+
+        List<Long> productIds = likesItemRepository.findProductIdsByMemberId(memberId);
+        LikedProducts likedProducts = LikedProducts.of(productIds.stream().mapToLong(Long::longValue).toArray());
+
+        lock.lock();
+        try {
+            if (missedChanges == changesBeforeLoad) {
+                entries.put(memberId, new Entry(likedProducts, System.nanoTime()));
+                evictOverflow();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return likedProducts;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLikesItemChanged(LikesItemChangedEvent event) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(event.memberId());
+            if (entry == null) {
+                missedChanges++;
+                return;
+            }
+
+            LikedProducts likedProducts = event.liked()
+                    ? entry.likedProducts().with(event.productId())
+                    : entry.likedProducts().without(event.productId());
+            entries.put(event.memberId(), new Entry(likedProducts, entry.loadedAtNanos()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxMembers && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package shop.shopBE.domain.likesitem.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -11,6 +12,8 @@ import shop.shopBE.domain.likes.service.LikesService;
 import shop.shopBE.domain.likesitem.entity.LikesItem;
 import shop.shopBE.domain.likesitem.request.LikesItemInfo;
 import shop.shopBE.domain.likesitem.request.LikesPaging;
+import shop.shopBE.domain.likesitem.response.LikedProducts;
+import shop.shopBE.domain.likesitem.response.LikesItemSlice;
 import shop.shopBE.domain.member.entity.Member;
 import shop.shopBE.domain.member.service.MemberService;
 import shop.shopBE.domain.product.entity.Product;
@@ -29,6 +32,7 @@ public class LikesItemFacadeService {
     private final LikesService likesService;
     private final MemberService memberService;
     private final ProductService productService;
+    private final LikedProductCache likedProductCache;
 
     public void setLikesItems(LikesItemInfo likesItemInfo, Long memberId) {
         //회원의 찜 보관함이 없으면 만들고 있으면 사용한다.(readonly = true) & (readonly = false)
@@ -39,13 +43,28 @@ public class LikesItemFacadeService {
         likesItemService.setLikesItems(likes, likesItemInfo.productId());
     }
 
-    public List<ProductListViewModel> findLikesItems(Pageable pageable, Long memberId) {
-        // 찜 보관함 조회 or 추가
-        Likes likes = likesService.findLikesByMemberId(memberId)
-                .orElseGet(() -> createLikes(memberId));
+    // 찜 목록을 커서 기반으로 조회한다. cursor는 이전 페이지의 마지막 찜 아이템 id (첫 페이지는 null)
+    public LikesItemSlice findLikesItems(Long cursor, int size, Long memberId) {
+        // 찜 보관함이 없으면 찜한 상품도 없다.
+        Optional<Likes> likes = likesService.findLikesByMemberId(memberId);
+        if (likes.isEmpty()) {
+            return new LikesItemSlice(List.of(), null, false);
+        }
+
+        // 다음 페이지가 있는지 확인하기 위해 하나 더 조회
+        List<ProductListViewModel> likesItems = productService.getProductListViewModels(likes.get().getId(), cursor, size + 1);
+        boolean hasNext = likesItems.size() > size;
+        if (hasNext) {
+            likesItems = likesItems.subList(0, size);
+        }
+
+        Long nextCursor = hasNext ? likesItems.get(likesItems.size() - 1).likesId() : null;
+        return new LikesItemSlice(likesItems, nextCursor, hasNext);
+    }
 
-        // 상품 아이디의 리스트로 상품의 데이터 조회
-        return productService.getProductListViewModels(likes.getId());
+    // 회원이 찜한 상품 id 집합 (캐시)
+    public LikedProducts findLikedProducts(Long memberId) {
+        return likedProductCache.get(memberId);
     }
 
 
@@ -54,11 +73,19 @@ public class LikesItemFacadeService {
                 .member(memberService.findById(memberId))
                 .build();
 
-        return likesService.save(likes);
+        try {
+            return likesService.save(likes);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 첫 찜 요청이 먼저 보관함을 만든 경우 (member_id 유니크)
+            return likesService.findLikesByMemberId(memberId)
+                    .orElseThrow(() -> e);
+        }
     }
 
-    public void deleteById(Long likesItemId,Long productId) {
-        likesItemService.deleteById(likesItemId, productId);
+    public void deleteById(Long likesItemId, Long productId, Long memberId) {
+        // 찜 보관함이 없으면 지울 찜 상품도 없다.
+        likesService.findLikesByMemberId(memberId)
+                .ifPresent(likes -> likesItemService.deleteById(likes.getId(), likesItemId, productId, memberId));
     }
 
 }
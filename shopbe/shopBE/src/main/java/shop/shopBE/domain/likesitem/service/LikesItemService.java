@@ -1,18 +1,20 @@
 package shop.shopBE.domain.likesitem.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import shop.shopBE.domain.likes.entity.Likes;
-import shop.shopBE.domain.likesitem.entity.LikesItem;
+import shop.shopBE.domain.likesitem.event.LikesItemChangedEvent;
 import shop.shopBE.domain.likesitem.exception.LikesItemExceptionCode;
 import shop.shopBE.domain.likesitem.repository.LikesItemRepository;
-import shop.shopBE.domain.product.entity.Product;
+import shop.shopBE.domain.product.event.ProductChangedEvent;
 import shop.shopBE.domain.product.exception.ProductExceptionCode;
 import shop.shopBE.domain.product.repository.ProductRepository;
 import shop.shopBE.global.exception.custom.CustomException;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -22,32 +24,45 @@ public class LikesItemService {
 
     private final LikesItemRepository likesItemRepository;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    // 이미 찜한 상품이면 아무것도 바꾸지 않는다. (중복 클릭, 재시도에도 찜숫자가 한 번만 증가)
+    // 조회 없이 찜숫자 증가 → 찜 아이템 추가 순서로 실행한다. 찜숫자 증가가 상품 행의 배타 락을 먼저 잡으므로
+    // 같은 상품의 찜 추가/삭제가 순서대로 처리된다. (찜 아이템을 먼저 넣으면 FK 확인의 공유 락과 엇갈려 데드락이 난다)
     @Transactional
     public void setLikesItems(Likes likes, Long productId) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new CustomException(ProductExceptionCode.NOT_FOUND));
+        LocalDateTime now = LocalDateTime.now();
+        if (productRepository.increaseLikeCount(productId, now) == 0) {
+            throw new CustomException(ProductExceptionCode.NOT_FOUND);
+        }
 
-        LikesItem likesItem = LikesItem.createLikesItem(likes, product);
-        likesItemRepository.save(likesItem);
+        // 이미 찜한 상품이면 방금 늘린 찜숫자를 되돌린다.
+        if (likesItemRepository.insertIfAbsent(likes.getId(), productId, now) == 0) {
+            productRepository.addLikeCount(productId, -1, now);
+            return;
+        }
 
-        product.plusLikeCount();
+        eventPublisher.publishEvent(ProductChangedEvent.likeCountChanged(productId));
+        eventPublisher.publishEvent(new LikesItemChangedEvent(likes.getMember().getId(), productId, true));
     }
 
+    // 본인 찜 보관함의 찜 상품만 제거한다. 이미 제거된 경우에는 아무것도 바꾸지 않는다.
+    // 찜 추가와 같은 순서(상품 행 → 찜 아이템)로 락을 잡도록 찜숫자를 먼저 줄인다.
     @Transactional
-    public void deleteById(Long likesItemId, Long productId) {
-        // 찜 상품을 제거한다.
-        likesItemRepository.deleteById(likesItemId);
+    public void deleteById(Long likesId, Long likesItemId, Long productId, Long memberId) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean decreased = productRepository.decreaseLikeCount(productId, now) > 0;
 
-        // 변경 감지를 위해 영속성 컨텍스트에 Product를 올린다.
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new CustomException(ProductExceptionCode.NOT_FOUND));
+        int deleted = likesItemRepository.deleteByIdAndLikesIdAndProductId(likesItemId, likesId, productId);
+        if (deleted == 0) {
+            // 이미 제거된 찜이면 방금 줄인 찜숫자를 되돌린다.
+            if (decreased) {
+                productRepository.addLikeCount(productId, 1, now);
+            }
+            return;
+        }
 
-        // Product의 값이 영속성 컨텍스트의 스냅샷 데이터와 다르기 때문에 업데이트 쿼리가 자동으로 나간다.
-        product.minusLikeCount();
+        eventPublisher.publishEvent(ProductChangedEvent.likeCountChanged(productId));
+        eventPublisher.publishEvent(new LikesItemChangedEvent(memberId, productId, false));
     }
-
-
-
-
 }
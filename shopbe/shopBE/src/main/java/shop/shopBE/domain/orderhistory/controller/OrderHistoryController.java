@@ -15,6 +15,7 @@ import shop.shopBE.domain.orderhistory.request.UpdateDeliveryStatus;
 import shop.shopBE.domain.orderhistory.response.OrderHistoryResponse;
 import shop.shopBE.domain.orderhistory.service.OrderHistoryFadeService;
 import shop.shopBE.domain.orderhistory.service.OrderHistoryService;
+import shop.shopBE.domain.orderhistory.service.OrderIdempotencyService;
 import shop.shopBE.global.config.security.mapper.token.AuthToken;
 import shop.shopBE.global.response.ResponseFormat;
 
@@ -27,6 +28,7 @@ public class OrderHistoryController {
 
     private final OrderHistoryService orderHistoryService;
     private final OrderHistoryFadeService orderHistoryFadeService;
+    private final OrderIdempotencyService orderIdempotencyService;
 
     @GetMapping("/orderHistory")
     @Operation(summary = "주문내역 조회", description = "현재 로그인한 회원의 주문내역들을 조회")
@@ -38,10 +40,11 @@ public class OrderHistoryController {
     }
 
     @PostMapping("/orderHistory")
-    @Operation(summary = "상품 주문", description = "상품주문시 주문내역으로 추가")
+    @Operation(summary = "상품 주문", description = "상품주문시 주문내역으로 추가. Idempotency-Key 헤더가 있으면 같은 키의 재요청에 처음 만든 주문 id를 돌려준다.")
     public ResponseEntity<ResponseFormat<Long>> addOrderHistory(@AuthenticationPrincipal AuthToken authToken,
+                                                                @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey, // 재시도 시 같은 주문으로 처리하기 위한 키
                                                                 @RequestBody @Valid OrderRequest orderRequest) {
-        Long orderHistoryId = orderHistoryService.orderItems(authToken.getId(), orderRequest);
+        Long orderHistoryId = orderIdempotencyService.placeOrder(authToken.getId(), idempotencyKey, orderRequest);
         return ResponseEntity.ok().body(ResponseFormat.of("상품 주문에 성공했습니다.",orderHistoryId));
     }
 
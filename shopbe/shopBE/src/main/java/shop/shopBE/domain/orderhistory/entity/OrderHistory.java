@@ -15,6 +15,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Builder
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_order_history_created_at", columnList = "createdAt")
+})
 public class OrderHistory {
 
     @Id
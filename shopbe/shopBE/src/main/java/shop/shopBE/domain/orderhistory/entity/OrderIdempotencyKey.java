@@ -0,0 +1,59 @@
+package shop.shopBE.domain.orderhistory.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 주문 생성 요청의 Idempotency-Key 기록. 주문과 같은 트랜잭션에서 저장되므로, 기록이 있으면 주문도 반드시 있다.
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_order_idempotency_key_member_key", columnNames = {"memberId", "idempotencyKey"})
+        },
+        indexes = {
+                @Index(name = "idx_order_idempotency_key_expires_at", columnList = "expiresAt")
+        }
+)
+public class OrderIdempotencyKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 키는 클라이언트가 만들기 때문에 회원별로 구분한다.
+    private Long memberId;
+
+    @Column(length = 100)
+    private String idempotencyKey;
+
+    // 같은 키로 다른 주문을 보낸 경우를 구분하기 위한 요청 내용 해시
+    @Column(length = 64)
+    private String requestHash;
+
+    private Long orderHistoryId;
+
+    private LocalDateTime createdAt;
+
+    // 이 시각 이후 정리 작업에서 삭제된다.
+    private LocalDateTime expiresAt;
+
+    public static OrderIdempotencyKey createOrderIdempotencyKey(Long memberId, String idempotencyKey, String requestHash,
+                                                                Long orderHistoryId, LocalDateTime expiresAt) {
+        return OrderIdempotencyKey.builder()
+                .memberId(memberId)
+                .idempotencyKey(idempotencyKey)
+                .requestHash(requestHash)
+                .orderHistoryId(orderHistoryId)
+                .createdAt(LocalDateTime.now())
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
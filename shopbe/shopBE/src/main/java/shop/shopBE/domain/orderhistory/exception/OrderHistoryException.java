@@ -9,7 +9,11 @@ import shop.shopBE.global.exception.code.ExceptionCode;
 @Getter
 public enum OrderHistoryException implements ExceptionCode {
 
-    OrderHistory_NOT_FOUND(HttpStatus.NOT_FOUND, "회원의 주문내역을 찾을 수 없습니다."),;
+    OrderHistory_NOT_FOUND(HttpStatus.NOT_FOUND, "회원의 주문내역을 찾을 수 없습니다."),
+    CHECKOUT_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "주문이 몰리고 있습니다. 잠시 후 다시 시도해 주세요."),
+    CHECKOUT_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "주문 처리 결과를 기다리는 시간이 초과되었습니다. 주문 내역을 확인해 주세요."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Idempotency-Key는 1자 이상 100자 이하여야 합니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 주문을 요청했습니다."),;
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -0,0 +1,29 @@
+package shop.shopBE.domain.orderhistory.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import shop.shopBE.domain.orderhistory.entity.OrderIdempotencyKey;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, Long> {
+
+    // 만료되지 않은 키 기록만 찾는다. (만료된 기록은 정리 작업 전이라도 없는 것으로 본다)
+    Optional<OrderIdempotencyKey> findByMemberIdAndIdempotencyKeyAndExpiresAtAfter(Long memberId, String idempotencyKey,
+                                                                                   LocalDateTime now);
+
+    // 같은 키를 다시 쓰기 전에 만료된 기록을 지운다. (유니크 제약 uk_order_idempotency_key_member_key)
+    @Modifying(flushAutomatically = true)
+    @Query("delete from OrderIdempotencyKey k " +
+            "where k.memberId = :memberId and k.idempotencyKey = :idempotencyKey and k.expiresAt <= :now")
+    int deleteExpired(@Param("memberId") Long memberId,
+                      @Param("idempotencyKey") String idempotencyKey,
+                      @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from OrderIdempotencyKey k where k.expiresAt < :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+}
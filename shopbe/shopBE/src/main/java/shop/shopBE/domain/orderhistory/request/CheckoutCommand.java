@@ -0,0 +1,8 @@
+package shop.shopBE.domain.orderhistory.request;
+
+public record CheckoutCommand(
+        Long memberId, // 주문한 회원의 기본키
+        OrderRequest orderRequest, // 주문 요청
+        IdempotentOrder idempotentOrder // Idempotency-Key 정보 (키 없이 요청하면 null)
+) {
+}
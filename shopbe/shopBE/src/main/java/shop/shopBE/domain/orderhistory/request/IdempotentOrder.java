@@ -0,0 +1,10 @@
+package shop.shopBE.domain.orderhistory.request;
+
+import java.time.LocalDateTime;
+
+public record IdempotentOrder(
+        String idempotencyKey, // 클라이언트가 보낸 Idempotency-Key
+        String requestHash, // 주문 요청 내용 해시
+        LocalDateTime expiresAt // 키 기록 만료 시각
+) {
+}
@@ -0,0 +1,18 @@
+package shop.shopBE.domain.orderhistory.response;
+
+import shop.shopBE.global.exception.custom.CustomException;
+
+// 묶음 주문 처리에서 주문 하나의 결과 (성공하면 주문내역 id, 실패하면 요청한 회원에게 돌려줄 예외)
+public record CheckoutResult(
+        Long orderHistoryId,
+        CustomException exception
+) {
+
+    public static CheckoutResult success(Long orderHistoryId) {
+        return new CheckoutResult(orderHistoryId, null);
+    }
+
+    public static CheckoutResult failure(CustomException exception) {
+        return new CheckoutResult(null, exception);
+    }
+}
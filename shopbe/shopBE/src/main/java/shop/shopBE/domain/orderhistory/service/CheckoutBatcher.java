@@ -0,0 +1,183 @@
+package shop.shopBE.domain.orderhistory.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import shop.shopBE.domain.orderhistory.exception.OrderHistoryException;
+import shop.shopBE.domain.orderhistory.request.CheckoutCommand;
+import shop.shopBE.domain.orderhistory.request.IdempotentOrder;
+import shop.shopBE.domain.orderhistory.request.OrderRequest;
+import shop.shopBE.domain.orderhistory.response.CheckoutResult;
+import shop.shopBE.global.exception.custom.CustomException;
+import shop.shopBE.global.utils.thread.WorkerThreads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 주문 요청을 짧은 시간 동안 모아서 하나의 트랜잭션(한 번의 커밋)으로 저장한다.
+// 주문이 몰릴 때 요청마다 커밋하는 비용을 줄이기 위한 선택 기능이며, checkout.batching.enabled=false(기본값)이면 요청마다 바로 저장한다.
+// 주문 하나의 저장은 여전히 원자적이다. 검증에 실패한 주문은 아무것도 저장하지 않고, 묶음 저장이 실패하면 주문별 트랜잭션으로 다시 처리한다.
+@Slf4j
+@Component
+public class CheckoutBatcher {
+
+    private final OrderHistoryService orderHistoryService;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxWaitMs;
+    private final long responseTimeoutMs;
+
+    private final BlockingQueue<PendingCheckout> queue;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public CheckoutBatcher(OrderHistoryService orderHistoryService,
+                           @Value("${checkout.batching.enabled:false}") boolean enabled,
+                           @Value("${checkout.batching.queue-capacity:1000}") int queueCapacity,
+                           @Value("${checkout.batching.max-batch-size:50}") int maxBatchSize,
+                           @Value("${checkout.batching.max-wait-ms:5}") long maxWaitMs,
+                           @Value("${checkout.batching.response-timeout-ms:10000}") long responseTimeoutMs,
+                           @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.orderHistoryService = orderHistoryService;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitMs = maxWaitMs;
+        this.responseTimeoutMs = responseTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.worker = WorkerThreads.threadFactory("checkout-batcher", virtualThreads).newThread(this::run);
+        if (enabled) {
+            worker.start();
+        }
+    }
+
+    // 주문을 저장하고 주문내역 id를 반환한다. idempotentOrder가 있으면 키 기록도 같은 트랜잭션에서 저장한다.
+    public Long placeOrder(Long memberId, OrderRequest orderRequest, IdempotentOrder idempotentOrder) {
+        if (!enabled) {
+            return orderHistoryService.orderItems(memberId, orderRequest, idempotentOrder);
+        }
+
+        PendingCheckout pending = new PendingCheckout(new CheckoutCommand(memberId, orderRequest, idempotentOrder), new CompletableFuture<>());
+        // 대기열이 가득 차면 기다리지 않고 바로 거절한다.
+        if (!queue.offer(pending)) {
+            throw new CustomException(OrderHistoryException.CHECKOUT_QUEUE_FULL);
+        }
+
+        try {
+            return pending.result().get(responseTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new CustomException(OrderHistoryException.CHECKOUT_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(OrderHistoryException.CHECKOUT_TIMEOUT);
+        }
+    }
+
+    private void run() {
+        List<PendingCheckout> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                collect(batch);
+                if (!batch.isEmpty()) {
+                    process(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                // 결과를 받지 못한 요청이 남지 않도록 한다.
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+                log.error("주문 묶음 처리 실패", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 요청을 기다린 뒤, 최대 maxWaitMs 동안 묶음이 찰 때까지 더 모은다.
+    private void collect(List<PendingCheckout> batch) throws InterruptedException {
+        PendingCheckout first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                break;
+            }
+
+            PendingCheckout next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void process(List<PendingCheckout> batch) {
+        List<CheckoutCommand> commands = batch.stream()
+                .map(PendingCheckout::command)
+                .toList();
+
+        List<CheckoutResult> results;
+        try {
+            results = orderHistoryService.orderItemsInBatch(commands);
+        } catch (Exception e) {
+            // 묶음 전체가 롤백되었으므로 주문마다 따로 저장해서 실패한 주문만 실패로 돌려준다.
+            log.warn("주문 묶음 저장 실패, 주문별로 다시 처리합니다. size={}", batch.size(), e);
+            batch.forEach(this::processOne);
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            CheckoutResult result = results.get(i);
+            if (result.exception() != null) {
+                batch.get(i).result().completeExceptionally(result.exception());
+            } else {
+                batch.get(i).result().complete(result.orderHistoryId());
+            }
+        }
+    }
+
+    private void processOne(PendingCheckout pending) {
+        try {
+            CheckoutCommand command = pending.command();
+            pending.result().complete(orderHistoryService.orderItems(command.memberId(), command.orderRequest(), command.idempotentOrder()));
+        } catch (Exception e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 처리 중인 묶음은 끝까지 저장하게 둔다. (대기열 확인 주기가 1초)
+        running = false;
+        if (enabled) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        // 처리되지 못한 요청은 실패로 돌려준다.
+        List<PendingCheckout> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.result().completeExceptionally(
+                new CustomException(OrderHistoryException.CHECKOUT_QUEUE_FULL)));
+    }
+
+    private record PendingCheckout(CheckoutCommand command, CompletableFuture<Long> result) {
+    }
+}
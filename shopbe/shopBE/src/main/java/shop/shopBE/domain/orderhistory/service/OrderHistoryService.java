@@ -1,6 +1,7 @@
 package shop.shopBE.domain.orderhistory.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -9,23 +10,39 @@ import shop.shopBE.domain.member.entity.Member;
 import shop.shopBE.domain.member.exception.MemberExceptionCode;
 import shop.shopBE.domain.member.repository.MemberRepository;
 import shop.shopBE.domain.orderhistory.entity.OrderHistory;
+import shop.shopBE.domain.orderhistory.entity.OrderIdempotencyKey;
 import shop.shopBE.domain.orderhistory.exception.OrderHistoryException;
 import shop.shopBE.domain.orderhistory.repository.OrderHistoryRepository;
+import shop.shopBE.domain.orderhistory.repository.OrderIdempotencyKeyRepository;
+import shop.shopBE.domain.orderhistory.request.CheckoutCommand;
+import shop.shopBE.domain.orderhistory.request.IdempotentOrder;
 import shop.shopBE.domain.orderhistory.request.OrderRequest;
+import shop.shopBE.domain.orderhistory.response.CheckoutResult;
 import shop.shopBE.domain.orderproduct.entity.OrderProduct;
 import shop.shopBE.domain.orderproduct.entity.enums.DeliveryStatus;
+import shop.shopBE.domain.orderproduct.event.OrderProductStatusChange;
+import shop.shopBE.domain.orderproduct.event.OrderProductsStatusChangedPayload;
 import shop.shopBE.domain.orderproduct.exception.OrderProductException;
 import shop.shopBE.domain.orderproduct.repository.OrderProductRepository;
 import shop.shopBE.domain.orderproduct.request.OrderProductRequest;
+import shop.shopBE.domain.outbox.entity.enums.OutboxEventType;
+import shop.shopBE.domain.outbox.service.OutboxService;
 import shop.shopBE.domain.product.entity.Product;
+import shop.shopBE.domain.product.event.ProductChangedEvent;
 import shop.shopBE.domain.product.repository.ProductRepository;
 import shop.shopBE.domain.productdetail.entity.ProductDetail;
 import shop.shopBE.domain.productdetail.exception.ProductDetailExceptionCustom;
 import shop.shopBE.domain.productdetail.repository.ProductDetailRepository;
 import shop.shopBE.global.exception.custom.CustomException;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,10 +50,13 @@ import java.util.List;
 public class OrderHistoryService {
 
     private final OrderHistoryRepository orderHistoryRepository;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
     private final MemberRepository memberRepository;
     private final OrderProductRepository orderProductRepository;
     private final ProductDetailRepository productDetailRepository;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
 
     // 회원의 OrderHistory 리스트를 조회
     public List<OrderHistory> findOrderHistoryByMemberId(Long memberId, Pageable pageable) {
@@ -65,10 +85,73 @@ public class OrderHistoryService {
      */
     @Transactional
     public Long orderItems(Long memberId, OrderRequest orderRequest) {
+        return orderItems(memberId, orderRequest, null);
+    }
+
+    // Idempotency-Key가 있으면 키 기록을 주문과 같은 트랜잭션에서 저장한다. (같은 키가 이미 있으면 유니크 제약 위반으로 전체 롤백)
+    @Transactional
+    public Long orderItems(Long memberId, OrderRequest orderRequest, IdempotentOrder idempotentOrder) {
         // 회원의 기본키로 회원 조회
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new CustomException(MemberExceptionCode.MEMBER_NOT_FOUND));
 
+        // 주문 목록의 상품 상세(사이즈)를 하나씩 조회
+        return placeOrder(member, orderRequest, idempotentOrder, orderProductRequest ->
+                productDetailRepository.findByProductIdAndSize(orderProductRequest.productId(), orderProductRequest.shoesSize())
+                        .orElseThrow(() -> new CustomException(ProductDetailExceptionCustom.PRODUCT_DETAIL_NOT_FOUND)));
+    }
+
+    /**
+     * 여러 회원의 주문을 하나의 트랜잭션에서 저장한다. (CheckoutBatcher에서 사용)
+     * 회원과 상품 상세를 한 번에 조회해서 먼저 검증하고, 검증에 실패한 주문은 아무것도 저장하지 않고 실패 결과만 돌려준다.
+     * 저장 중 예외가 나면 전체가 롤백되므로 호출한 쪽에서 주문별로 다시 처리해야 한다.
+     *
+     * @param commands
+     * @return 요청 순서대로의 주문별 결과
+     */
+    @Transactional
+    public List<CheckoutResult> orderItemsInBatch(List<CheckoutCommand> commands) {
+        Set<Long> memberIds = new HashSet<>();
+        Set<Long> productIds = new HashSet<>();
+        for (CheckoutCommand command : commands) {
+            memberIds.add(command.memberId());
+            command.orderRequest().orderProductRequests()
+                    .forEach(orderProductRequest -> productIds.add(orderProductRequest.productId()));
+        }
+
+        Map<Long, Member> members = memberRepository.findAllById(memberIds).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        Map<String, ProductDetail> productDetails = productDetailRepository.findAllByProductIds(productIds).stream()
+                .collect(Collectors.toMap(productDetail -> productDetailKey(productDetail.getProduct().getId(), productDetail.getShoesSize()),
+                        Function.identity()));
+
+        List<CheckoutResult> results = new ArrayList<>();
+        for (CheckoutCommand command : commands) {
+            Member member = members.get(command.memberId());
+            if (member == null) {
+                results.add(CheckoutResult.failure(new CustomException(MemberExceptionCode.MEMBER_NOT_FOUND)));
+                continue;
+            }
+
+            boolean allFound = command.orderRequest().orderProductRequests().stream()
+                    .allMatch(orderProductRequest -> productDetails.containsKey(
+                            productDetailKey(orderProductRequest.productId(), orderProductRequest.shoesSize())));
+            if (!allFound) {
+                results.add(CheckoutResult.failure(new CustomException(ProductDetailExceptionCustom.PRODUCT_DETAIL_NOT_FOUND)));
+                continue;
+            }
+
+            Long orderHistoryId = placeOrder(member, command.orderRequest(), command.idempotentOrder(), orderProductRequest ->
+                    productDetails.get(productDetailKey(orderProductRequest.productId(), orderProductRequest.shoesSize())));
+            results.add(CheckoutResult.success(orderHistoryId));
+        }
+
+        return results;
+    }
+
+    // 주문정보와 주문 아이템 목록을 저장하고, 판매 집계용 아웃박스 이벤트를 남긴다.
+    private Long placeOrder(Member member, OrderRequest orderRequest, IdempotentOrder idempotentOrder,
+                            Function<OrderProductRequest, ProductDetail> productDetailFinder) {
         // 주문정보 객체 생성
         OrderHistory orderHistory = OrderHistory.createDefaultOrderHistory(
                 orderRequest.totalPrice(),
@@ -93,8 +176,7 @@ public class OrderHistoryService {
         List<OrderProduct> orderProducts = new ArrayList<>();
 
         for (OrderProductRequest orderProductRequest : orderProductRequests) {
-            ProductDetail productDetail = productDetailRepository.findByProductIdAndSize(orderProductRequest.productId(), orderProductRequest.shoesSize())
-                    .orElseThrow(() -> new CustomException(ProductDetailExceptionCustom.PRODUCT_DETAIL_NOT_FOUND));
+            ProductDetail productDetail = productDetailFinder.apply(orderProductRequest);
 
 
             OrderProduct orderProduct = OrderProduct.createDefaultOrderProduct(
@@ -111,27 +193,59 @@ public class OrderHistoryService {
         // List<Entity>를 한번에 저장함
         orderProductRepository.saveAll(orderProducts);
 
+        // 판매 집계, 판매자 통계는 커밋 이후 아웃박스 이벤트로 반영 (결제 전 상태는 주문 수량만 집계됨)
+        List<OrderProductStatusChange> changes = orderProducts.stream()
+                .map(orderProduct -> new OrderProductStatusChange(orderProduct.getId(), null, orderProduct.getCurrentDeliveryStatus()))
+                .toList();
+        outboxService.append(OutboxEventType.ORDER_PLACED, savedOrderHistory.getId(), new OrderProductsStatusChangedPayload(changes));
+
+        if (idempotentOrder != null) {
+            // 정리 작업 전에 남아 있는 만료된 같은 키 기록은 지우고 새로 저장한다.
+            orderIdempotencyKeyRepository.deleteExpired(member.getId(), idempotentOrder.idempotencyKey(), LocalDateTime.now());
+            orderIdempotencyKeyRepository.save(OrderIdempotencyKey.createOrderIdempotencyKey(
+                    member.getId(),
+                    idempotentOrder.idempotencyKey(),
+                    idempotentOrder.requestHash(),
+                    savedOrderHistory.getId(),
+                    idempotentOrder.expiresAt()
+            ));
+        }
+
         return savedOrderHistory.getId();
     }
 
+    private String productDetailKey(Long productId, int shoesSize) {
+        return productId + ":" + shoesSize;
+    }
+
     @Transactional
     public void updateOrderHistory(Long orderHistoryId, DeliveryStatus deliveryStatus) {
         List<OrderProduct> orderProducts = orderProductRepository.findOrderProductByOrderHistoryId(orderHistoryId)
                 .orElseThrow(() -> new CustomException(OrderProductException.ORDER_PRODUCT_NOT_FOUND));
 
 
+        List<OrderProductStatusChange> changes = new ArrayList<>();
         for (OrderProduct orderProduct : orderProducts) {
             // 주문상품의 상태를 변경
+            DeliveryStatus beforeStatus = orderProduct.getCurrentDeliveryStatus();
             orderProduct.changeDeliveryStatus(deliveryStatus);
+            changes.add(new OrderProductStatusChange(orderProduct.getId(), beforeStatus, deliveryStatus));
 
             // 해당 상품의 총 재고 수량 감소
             Product product = orderProduct.getProductDetail().getProduct();
             product.minusTotalStock(orderProduct.getProductCount());
+            eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
 
             // 해당 사이즈의 재고 감소
             ProductDetail productDetail = orderProduct.getProductDetail();
             productDetail.minusSizeStock(orderProduct.getProductCount());
         }
+
+        // 판매 집계, 판매자 통계는 커밋 이후 아웃박스 이벤트로 반영
+        OutboxEventType eventType = deliveryStatus == DeliveryStatus.CANCEL_DELIVERY
+                ? OutboxEventType.ORDER_CANCELLED
+                : OutboxEventType.ORDER_STATUS_CHANGED;
+        outboxService.append(eventType, orderHistoryId, new OrderProductsStatusChangedPayload(changes));
     }
 
 }
@@ -0,0 +1,204 @@
+package shop.shopBE.domain.orderhistory.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shop.shopBE.domain.orderhistory.exception.OrderHistoryException;
+import shop.shopBE.domain.orderhistory.repository.OrderIdempotencyKeyRepository;
+import shop.shopBE.domain.orderhistory.request.IdempotentOrder;
+import shop.shopBE.domain.orderhistory.request.OrderRequest;
+import shop.shopBE.global.exception.custom.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Idempotency-Key가 있는 주문 요청을 한 번만 실행한다.
+// 1. 최근에 끝난 키는 메모리에서 바로 주문 id를 돌려준다.
+// 2. 같은 인스턴스에서 실행 중인 키는 실행이 끝날 때까지 기다렸다가 같은 결과를 돌려준다.
+// 3. 그 밖에는 만료되지 않은 DB 기록을 확인하고, 없으면 주문과 키 기록을 한 트랜잭션에서 저장한다. (만료된 기록은 그때 지움)
+//    다른 인스턴스가 같은 키를 먼저 저장했다면 유니크 제약 위반으로 주문이 롤백되고, 먼저 저장된 주문 id를 돌려준다.
+@Slf4j
+@Service
+public class OrderIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final CheckoutBatcher checkoutBatcher;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final Duration ttl;
+    private final long waitTimeoutMs;
+    // 메모리에 남겨 둘 최근 키 수 (밀려난 키는 DB 기록으로 확인)
+    private final int maxCachedKeys;
+
+    private final Map<String, CompletableFuture<StoredOrder>> inFlight = new ConcurrentHashMap<>();
+    // 최근에 끝난 키. 최대 개수를 넘으면 가장 오래 사용되지 않은 키부터 제거한다. (LRU, accessOrder = true)
+    private final LinkedHashMap<String, StoredOrder> completed = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock completedLock = new ReentrantLock();
+
+    public OrderIdempotencyService(CheckoutBatcher checkoutBatcher,
+                                   OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+                                   @Value("${idempotency.ttl-hours:24}") long ttlHours,
+                                   @Value("${idempotency.cache.max-entries:10000}") int maxCachedKeys,
+                                   @Value("${checkout.batching.response-timeout-ms:10000}") long waitTimeoutMs) {
+        this.checkoutBatcher = checkoutBatcher;
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.maxCachedKeys = maxCachedKeys;
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    public Long placeOrder(Long memberId, String idempotencyKey, OrderRequest orderRequest) {
+        if (idempotencyKey == null) {
+            return checkoutBatcher.placeOrder(memberId, orderRequest, null);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new CustomException(OrderHistoryException.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        String cacheKey = memberId + ":" + idempotencyKey;
+        String requestHash = hash(orderRequest);
+
+        StoredOrder cached = getCompleted(cacheKey);
+        if (cached != null && !cached.isExpired()) {
+            return cached.orderHistoryIdFor(requestHash);
+        }
+
+        // 같은 키로 실행 중인 요청이 있으면 그 결과를 기다린다.
+        CompletableFuture<StoredOrder> mine = new CompletableFuture<>();
+        CompletableFuture<StoredOrder> running = inFlight.putIfAbsent(cacheKey, mine);
+        if (running != null) {
+            return await(running).orderHistoryIdFor(requestHash);
+        }
+
+        try {
+            StoredOrder storedOrder = findStored(memberId, idempotencyKey)
+                    .orElseGet(() -> placeNew(memberId, idempotencyKey, requestHash, orderRequest));
+            putCompleted(cacheKey, storedOrder);
+            mine.complete(storedOrder);
+            return storedOrder.orderHistoryIdFor(requestHash);
+        } catch (RuntimeException e) {
+            // 실패한 요청은 기록이 남지 않으므로 같은 키로 다시 시도할 수 있다.
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, mine);
+        }
+    }
+
+    private StoredOrder placeNew(Long memberId, String idempotencyKey, String requestHash, OrderRequest orderRequest) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        try {
+            Long orderHistoryId = checkoutBatcher.placeOrder(memberId, orderRequest,
+                    new IdempotentOrder(idempotencyKey, requestHash, expiresAt));
+            return new StoredOrder(orderHistoryId, requestHash, expiresAt);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 키로 먼저 주문을 저장했다.
+            return findStored(memberId, idempotencyKey)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<StoredOrder> findStored(Long memberId, String idempotencyKey) {
+        return orderIdempotencyKeyRepository.findByMemberIdAndIdempotencyKeyAndExpiresAtAfter(memberId, idempotencyKey,
+                        LocalDateTime.now())
+                .map(key -> new StoredOrder(key.getOrderHistoryId(), key.getRequestHash(), key.getExpiresAt()));
+    }
+
+    private StoredOrder await(CompletableFuture<StoredOrder> running) {
+        try {
+            return running.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new CustomException(OrderHistoryException.CHECKOUT_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(OrderHistoryException.CHECKOUT_TIMEOUT);
+        }
+    }
+
+    // 만료된 키 기록 정리
+    @Transactional
+    @Scheduled(cron = "${idempotency.cleanup-cron:0 20 * * * *}")
+    public void deleteExpired() {
+        completedLock.lock();
+        try {
+            completed.values().removeIf(StoredOrder::isExpired);
+        } finally {
+            completedLock.unlock();
+        }
+
+        int deleted = orderIdempotencyKeyRepository.deleteAllExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 주문 Idempotency-Key 삭제 - {}건", deleted);
+        }
+    }
+
+    private StoredOrder getCompleted(String cacheKey) {
+        completedLock.lock();
+        try {
+            return completed.get(cacheKey);
+        } finally {
+            completedLock.unlock();
+        }
+    }
+
+    private void putCompleted(String cacheKey, StoredOrder storedOrder) {
+        completedLock.lock();
+        try {
+            completed.put(cacheKey, storedOrder);
+
+            Iterator<String> iterator = completed.keySet().iterator();
+            while (completed.size() > maxCachedKeys && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            completedLock.unlock();
+        }
+    }
+
+    private String hash(OrderRequest orderRequest) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(orderRequest.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record StoredOrder(Long orderHistoryId, String requestHash, LocalDateTime expiresAt) {
+
+        // 같은 키로 내용이 다른 주문을 보내면 거절한다.
+        Long orderHistoryIdFor(String requestHash) {
+            if (!this.requestHash.equals(requestHash)) {
+                throw new CustomException(OrderHistoryException.IDEMPOTENCY_KEY_REUSED);
+            }
+            return orderHistoryId;
+        }
+
+        boolean isExpired() {
+            return expiresAt.isBefore(LocalDateTime.now());
+        }
+    }
+}
@@ -9,7 +9,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import shop.shopBE.domain.member.entity.enums.Role;
+import shop.shopBE.domain.orderproduct.request.BulkDeliveryStatusRequest;
 import shop.shopBE.domain.orderproduct.request.OrderProductDeliveryInfo;
+import shop.shopBE.domain.orderproduct.response.BulkDeliveryStatusResponse;
 import shop.shopBE.domain.orderproduct.response.OrderProductInfo;
 import shop.shopBE.domain.orderproduct.service.OrderProductService;
 import shop.shopBE.global.config.security.mapper.token.AuthToken;
@@ -32,15 +35,30 @@ public class OrderProductController {
         return ResponseEntity.ok().body(ResponseFormat.of("주문 상세조회 성공", orderInfos));
     }
 
-    @PutMapping("/orderProduct/{productDetailId}")
-    @Operation(summary = "주문상품 배송상태 업데이트", description = "주문상품 배송상태를 업데이트(배송전, 배송중, 배송후 등으로 변경)")
-    @PreAuthorize("hasRole('SELLER')")
-    public ResponseEntity<ResponseFormat<List<OrderProductInfo>>> updateOrderProductDeliveryState(@PathVariable(name = "productDetailId") Long orderProductDetailId,
-                                                                                                  @RequestBody @Valid OrderProductDeliveryInfo orderProductDeliveryInfo) {
-        orderProductService.updateOrderProductDeliveryState(orderProductDetailId, orderProductDeliveryInfo.deliveryStatus());
+    @PutMapping("/orderProduct/{orderProductId}")
+    @Operation(summary = "주문상품 배송상태 업데이트", description = "주문상품 배송상태를 업데이트(배송중, 배송후, 주문취소로 변경)")
+    @PreAuthorize("hasAnyRole('SELLER', 'ADMIN')")
+    public ResponseEntity<ResponseFormat<List<OrderProductInfo>>> updateOrderProductDeliveryState(@PathVariable(name = "orderProductId") Long orderProductId,
+                                                                                                  @RequestBody @Valid OrderProductDeliveryInfo orderProductDeliveryInfo,
+                                                                                                  @AuthenticationPrincipal AuthToken authToken) {
+        orderProductService.updateOrderProductDeliveryState(orderProductId, orderProductDeliveryInfo.deliveryStatus(), sellerIdOf(authToken));
         return ResponseEntity.ok().body(ResponseFormat.of("주문 상품 배송상태 업데이트 성공"));
     }
 
+    @PutMapping("/orderProduct/deliveryStatus")
+    @Operation(summary = "주문상품 배송상태 일괄 업데이트", description = "여러 주문상품의 배송상태를 한 번에 업데이트하고 주문상품별 결과를 반환한다. 판매자는 본인 상품의 주문상품만 변경할 수 있다.")
+    @PreAuthorize("hasAnyRole('SELLER', 'ADMIN')")
+    public ResponseEntity<ResponseFormat<BulkDeliveryStatusResponse>> updateDeliveryStatuses(@RequestBody @Valid BulkDeliveryStatusRequest request,
+                                                                                            @AuthenticationPrincipal AuthToken authToken) {
+        BulkDeliveryStatusResponse response = orderProductService.updateDeliveryStatuses(request.orderProductIds(), request.deliveryStatus(), sellerIdOf(authToken));
+        return ResponseEntity.ok().body(ResponseFormat.of("주문 상품 배송상태 일괄 업데이트 성공", response));
+    }
+
+    // 관리자는 모든 주문상품을 변경할 수 있으므로 판매자 조건을 걸지 않는다.
+    private Long sellerIdOf(AuthToken authToken) {
+        return authToken.getRoles().contains(Role.ADMIN.getRoleDescription()) ? null : authToken.getId();
+    }
+
     @DeleteMapping("/orderProduct/{orderProductId}")
     @Operation(summary = "주문 상품 로그 삭제", description = "주문한 상품의 기록을 삭제한다.")
     public ResponseEntity<ResponseFormat<Void>> deleteOrderProduct(@PathVariable(name = "orderProductId") Long orderProductId) {
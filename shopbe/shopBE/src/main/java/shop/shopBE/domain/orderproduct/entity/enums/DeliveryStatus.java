@@ -3,6 +3,9 @@ package shop.shopBE.domain.orderproduct.entity.enums;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 @AllArgsConstructor
 @Getter
 public enum DeliveryStatus {
@@ -13,4 +16,20 @@ public enum DeliveryStatus {
     CANCEL_DELIVERY("주문 취소"); // 서버 어플리케이션에서 현재 상태가 배송 전 또는 결제 전 일때만 변경이 가능함
 
     private final String description;
+
+    // 결제가 완료된 주문 상태인지 (판매 집계에 포함되는 상태)
+    public boolean isPaid() {
+        return this == BEFORE_DELIVERY || this == START_DELIVERY || this == END_DELIVERY;
+    }
+
+    // 판매자/관리자가 이 상태로 바꿀 수 있는 이전 상태 목록
+    // 결제(결제 전 -> 배송 전)는 재고 차감과 함께 주문 내역 API에서만 처리하므로 비어 있다.
+    public Set<DeliveryStatus> changeableFrom() {
+        return switch (this) {
+            case START_DELIVERY -> EnumSet.of(BEFORE_DELIVERY);
+            case END_DELIVERY -> EnumSet.of(START_DELIVERY);
+            case CANCEL_DELIVERY -> EnumSet.of(BEFORE_PAY, BEFORE_DELIVERY);
+            case BEFORE_DELIVERY, BEFORE_PAY -> EnumSet.noneOf(DeliveryStatus.class);
+        };
+    }
 }
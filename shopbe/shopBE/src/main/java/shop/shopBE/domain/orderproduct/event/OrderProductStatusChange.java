@@ -0,0 +1,10 @@
+package shop.shopBE.domain.orderproduct.event;
+
+import shop.shopBE.domain.orderproduct.entity.enums.DeliveryStatus;
+
+public record OrderProductStatusChange(
+        Long orderProductId, // 주문상품의 아이디
+        DeliveryStatus beforeStatus, // 변경 전 상태 (새 주문이면 null)
+        DeliveryStatus afterStatus // 변경 후 상태
+) {
+}
@@ -0,0 +1,15 @@
+package shop.shopBE.domain.orderproduct.event;
+
+import java.util.List;
+
+// 주문 생성, 상태 변경, 취소 아웃박스 이벤트의 내용
+public record OrderProductsStatusChangedPayload(
+        List<OrderProductStatusChange> changes
+) {
+
+    public List<Long> orderProductIds() {
+        return changes.stream()
+                .map(OrderProductStatusChange::orderProductId)
+                .toList();
+    }
+}
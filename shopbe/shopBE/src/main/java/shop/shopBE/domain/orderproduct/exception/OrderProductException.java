@@ -10,7 +10,9 @@ import shop.shopBE.global.exception.code.ExceptionCode;
 @Getter
 public enum OrderProductException implements ExceptionCode {
 
-    ORDER_PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 주문상세를 찾을 수 없습니다."),;
+    ORDER_PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 주문상세를 찾을 수 없습니다."),
+    INVALID_DELIVERY_STATUS(HttpStatus.BAD_REQUEST, "직접 변경할 수 없는 배송상태입니다."),
+    INVALID_DELIVERY_STATUS_TRANSITION(HttpStatus.CONFLICT, "현재 배송상태에서는 요청한 상태로 변경할 수 없습니다."),;
 
     private final HttpStatus httpStatus;
     private final String message;
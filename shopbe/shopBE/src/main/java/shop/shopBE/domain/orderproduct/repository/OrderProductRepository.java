@@ -3,11 +3,36 @@ package shop.shopBE.domain.orderproduct.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 import shop.shopBE.domain.orderproduct.entity.OrderProduct;
+import shop.shopBE.domain.orderproduct.entity.enums.DeliveryStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderProductRepository extends JpaRepository<OrderProduct, Long>, OrderProductRepositoryCustom {
-    
+
+    // 기간 내 주문의 주문상품 행을 공유 잠금으로 잠근다. (판매 통계 재집계용)
+    // 상태 변경(주문상품 갱신 -> 집계 갱신)과 같은 순서로 잠가서 교착 상태를 피한다.
+    @Query(value = "select op.id from order_product op " +
+            "join order_history oh on oh.id = op.order_history_id " +
+            "where oh.created_at >= :start and oh.created_at < :end " +
+            "for share", nativeQuery = true)
+    List<Long> lockIdsByOrderedAtBetween(@Param("start") LocalDateTime start,
+                                         @Param("end") LocalDateTime end);
+
+    // 배송상태 일괄 변경 - 허용된 이전 상태인 행만 바꾼다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderProduct op set op.currentDeliveryStatus = :after " +
+            "where op.id in :orderProductIds and op.currentDeliveryStatus in :befores")
+    int updateDeliveryStatus(@Param("orderProductIds") Collection<Long> orderProductIds,
+                             @Param("befores") Collection<DeliveryStatus> befores,
+                             @Param("after") DeliveryStatus after);
+
+    // 주문상품들이 가리키는 상품 id (캐시 무효화용)
+    @Query("select distinct op.productDetail.product.id from OrderProduct op where op.id in :orderProductIds")
+    List<Long> findProductIdsByIds(@Param("orderProductIds") Collection<Long> orderProductIds);
 }
@@ -5,13 +5,19 @@ import shop.shopBE.domain.orderhistory.entity.OrderHistory;
 import shop.shopBE.domain.orderhistory.response.OrderHistoryInfoResponse;
 import shop.shopBE.domain.orderproduct.entity.OrderProduct;
 import shop.shopBE.domain.orderproduct.response.OrderProductInfo;
+import shop.shopBE.domain.orderproduct.response.OrderProductStatusView;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface OrderProductRepositoryCustom {
 
-    Optional<OrderProduct> findOrderProductByProductDetailId(Long productDetailId);
+    // 주문상품의 현재 배송상태를 조회하면서 행을 잠근다. sellerId가 있으면 해당 판매자 상품의 주문상품만 조회
+    List<OrderProductStatusView> lockDeliveryStatusesByIds(Collection<Long> orderProductIds, Long sellerId);
+
+    // 판매 집계 갱신에 필요한 주문 내역, 상품까지 함께 조회
+    List<OrderProduct> findOrderProductsWithProductByIds(Collection<Long> orderProductIds);
 
 //    Optional<List<OrderHistoryInfoResponse>> findOrderHistoryInfoByIds(List<Long> orderHistoryIds, Pageable pageable);
 
@@ -2,9 +2,11 @@ package shop.shopBE.domain.orderproduct.repository;
 
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.SubQueryExpression;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -16,10 +18,12 @@ import shop.shopBE.domain.orderproduct.entity.OrderProduct;
 import shop.shopBE.domain.orderproduct.request.OrderProductDeliveryInfo;
 import shop.shopBE.domain.orderproduct.exception.OrderProductException;
 import shop.shopBE.domain.orderproduct.response.OrderProductInfo;
+import shop.shopBE.domain.orderproduct.response.OrderProductStatusView;
 import shop.shopBE.domain.productdetail.entity.QProductDetail;
 import shop.shopBE.domain.productimage.entity.enums.ProductImageCategory;
 import shop.shopBE.global.exception.custom.CustomException;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,14 +42,44 @@ public class OrderProductRepositoryImpl implements OrderProductRepositoryCustom
 
 
     @Override
-    public Optional<OrderProduct> findOrderProductByProductDetailId(Long productDetailId) {
-        OrderProduct result = queryFactory
-                .select(orderProduct)
+    public List<OrderProductStatusView> lockDeliveryStatusesByIds(Collection<Long> orderProductIds, Long sellerId) {
+        // 판매자 조건은 서브쿼리로 걸어서 주문상품 행만 잠근다. (상품, 상품 상세 행은 잠그지 않음)
+        return queryFactory
+                .select(Projections.constructor(OrderProductStatusView.class,
+                        orderProduct.id,
+                        orderProduct.currentDeliveryStatus
+                ))
                 .from(orderProduct)
-                .where(orderProduct.productDetail.id.eq(productDetailId))
-                .fetchOne();
+                .where(
+                        orderProduct.id.in(orderProductIds),
+                        sellerProductCondition(sellerId)
+                )
+                .orderBy(orderProduct.id.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
 
-        return Optional.ofNullable(result);
+    private BooleanExpression sellerProductCondition(Long sellerId) {
+        if (sellerId == null) {
+            return null;
+        }
+        return orderProduct.productDetail.id.in(
+                JPAExpressions.select(productDetail.id)
+                        .from(productDetail)
+                        .where(productDetail.product.member.id.eq(sellerId))
+        );
+    }
+
+    @Override
+    public List<OrderProduct> findOrderProductsWithProductByIds(Collection<Long> orderProductIds) {
+        return queryFactory
+                .select(orderProduct)
+                .from(orderProduct)
+                .join(orderProduct.orderHistory, orderHistory).fetchJoin()
+                .join(orderProduct.productDetail, productDetail).fetchJoin()
+                .join(productDetail.product, product).fetchJoin()
+                .where(orderProduct.id.in(orderProductIds))
+                .fetch();
     }
 
     @Override
@@ -123,6 +157,7 @@ public class OrderProductRepositoryImpl implements OrderProductRepositoryCustom
     public Optional<List<OrderProductInfo>> findOrderProductInfoByOrderHistoryId(Long orderHistoryId) {
         List<OrderProductInfo> result = queryFactory
                 .select(Projections.constructor(OrderProductInfo.class,
+                        orderProduct.id,
                         product.id,
                         orderHistory.id,
                         orderProduct.productCount,
@@ -0,0 +1,18 @@
+package shop.shopBE.domain.orderproduct.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import shop.shopBE.domain.orderproduct.entity.enums.DeliveryStatus;
+
+import java.util.List;
+
+public record BulkDeliveryStatusRequest(
+        @NotEmpty
+        @Size(max = 1000)
+        List<@NotNull Long> orderProductIds, // 배송상태를 바꿀 주문상품 아이디 목록
+
+        @NotNull
+        DeliveryStatus deliveryStatus // 변경할 배송상태
+) {
+}
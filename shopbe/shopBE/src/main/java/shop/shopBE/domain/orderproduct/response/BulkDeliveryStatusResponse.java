@@ -0,0 +1,12 @@
+package shop.shopBE.domain.orderproduct.response;
+
+import shop.shopBE.domain.orderproduct.entity.enums.DeliveryStatus;
+
+import java.util.List;
+
+public record BulkDeliveryStatusResponse(
+        DeliveryStatus deliveryStatus, // 변경하려는 배송상태
+        int updatedCount, // 실제로 변경된 주문상품 수
+        List<DeliveryStatusUpdateResult> results // 요청한 주문상품별 처리 결과 (요청 순서)
+) {
+}
@@ -0,0 +1,10 @@
+package shop.shopBE.domain.orderproduct.response;
+
+import shop.shopBE.domain.orderproduct.entity.enums.DeliveryStatus;
+
+public record DeliveryStatusUpdateResult(
+        Long orderProductId, // 주문상품의 아이디
+        DeliveryStatus beforeStatus, // 변경 전 배송상태 (없는 주문상품이면 null)
+        DeliveryStatusUpdateResultCode result // 처리 결과
+) {
+}
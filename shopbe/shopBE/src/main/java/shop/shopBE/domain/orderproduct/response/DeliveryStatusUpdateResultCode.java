@@ -0,0 +1,15 @@
+package shop.shopBE.domain.orderproduct.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum DeliveryStatusUpdateResultCode {
+    UPDATED("변경됨"),
+    UNCHANGED("이미 요청한 상태"),
+    INVALID_TRANSITION("현재 상태에서 변경할 수 없음"),
+    NOT_FOUND("없는 주문상품이거나 권한 없음");
+
+    private final String description;
+}
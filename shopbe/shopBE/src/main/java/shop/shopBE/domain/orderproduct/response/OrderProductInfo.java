@@ -5,6 +5,7 @@ import shop.shopBE.domain.orderproduct.entity.enums.DeliveryStatus;
 
 
 public record OrderProductInfo(
+        Long orderProductId, // 주문상품의 아이디 (배송상태 변경에 사용)
         Long productId, // 상품의 아이디
         Long orderId, // 주문 번호
         int orderProductCount, // 상품 주문 수량
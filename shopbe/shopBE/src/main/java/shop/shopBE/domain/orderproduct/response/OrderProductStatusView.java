@@ -0,0 +1,9 @@
+package shop.shopBE.domain.orderproduct.response;
+
+import shop.shopBE.domain.orderproduct.entity.enums.DeliveryStatus;
+
+public record OrderProductStatusView(
+        Long orderProductId, // 주문상품의 아이디
+        DeliveryStatus deliveryStatus // 현재 배송상태
+) {
+}
@@ -2,6 +2,7 @@ package shop.shopBE.domain.orderproduct.service;
 
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,13 +11,29 @@ import shop.shopBE.domain.orderhistory.response.OrderHistoryInfoResponse;
 import shop.shopBE.domain.orderhistory.response.OrderHistoryResponse;
 import shop.shopBE.domain.orderproduct.entity.OrderProduct;
 import shop.shopBE.domain.orderproduct.entity.enums.DeliveryStatus;
+import shop.shopBE.domain.orderproduct.event.OrderProductStatusChange;
+import shop.shopBE.domain.orderproduct.event.OrderProductsStatusChangedPayload;
 import shop.shopBE.domain.orderproduct.exception.OrderProductException;
 import shop.shopBE.domain.orderproduct.repository.OrderProductRepository;
+import shop.shopBE.domain.orderproduct.response.BulkDeliveryStatusResponse;
+import shop.shopBE.domain.orderproduct.response.DeliveryStatusUpdateResult;
+import shop.shopBE.domain.orderproduct.response.DeliveryStatusUpdateResultCode;
 import shop.shopBE.domain.orderproduct.response.OrderProductInfo;
+import shop.shopBE.domain.orderproduct.response.OrderProductStatusView;
+import shop.shopBE.domain.outbox.entity.enums.OutboxEventType;
+import shop.shopBE.domain.outbox.service.OutboxService;
+import shop.shopBE.domain.product.event.ProductChangedEvent;
+import shop.shopBE.domain.product.repository.ProductRepository;
+import shop.shopBE.domain.productdetail.repository.ProductDetailRepository;
 import shop.shopBE.global.exception.custom.CustomException;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service //서비스
 @RequiredArgsConstructor //생성자를 만들어줌 orderRepository를 매개변수로 받아와 this로 넣는 코드를 알아서해줌
@@ -24,6 +41,10 @@ import java.util.Optional;
 public class OrderProductService {
 
     private final OrderProductRepository orderProductRepository;
+    private final OutboxService outboxService;
+    private final ProductRepository productRepository;
+    private final ProductDetailRepository productDetailRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional
@@ -46,13 +67,93 @@ public class OrderProductService {
 
 
     @Transactional
-    //주문상품의 배송상태를 업데이트
-    public void updateOrderProductDeliveryState(Long productDetailId, DeliveryStatus deliveryStatus) {
-        OrderProduct orderProduct = orderProductRepository.findOrderProductByProductDetailId(productDetailId)
-                .orElseThrow(() -> new CustomException(OrderProductException.ORDER_PRODUCT_NOT_FOUND));
+    //주문상품 하나의 배송상태를 업데이트 (sellerId가 null이면 관리자)
+    public void updateOrderProductDeliveryState(Long orderProductId, DeliveryStatus deliveryStatus, Long sellerId) {
+        DeliveryStatusUpdateResult result = updateDeliveryStatuses(List.of(orderProductId), deliveryStatus, sellerId)
+                .results().get(0);
+
+        switch (result.result()) {
+            case NOT_FOUND -> throw new CustomException(OrderProductException.ORDER_PRODUCT_NOT_FOUND);
+            case INVALID_TRANSITION -> throw new CustomException(OrderProductException.INVALID_DELIVERY_STATUS_TRANSITION);
+            default -> {
+            }
+        }
+    }
 
+    @Transactional
+    //주문상품들의 배송상태를 한 번에 업데이트하고 주문상품별 결과를 돌려준다. (sellerId가 null이면 관리자)
+    public BulkDeliveryStatusResponse updateDeliveryStatuses(List<Long> orderProductIds, DeliveryStatus deliveryStatus, Long sellerId) {
+        Set<DeliveryStatus> changeableFrom = deliveryStatus.changeableFrom();
+        if (changeableFrom.isEmpty()) {
+            throw new CustomException(OrderProductException.INVALID_DELIVERY_STATUS);
+        }
+
+        // 현재 상태를 잠근 채로 읽어서, 변경 전 상태가 일괄 변경 결과와 어긋나지 않게 한다.
+        Set<Long> requestedIds = new LinkedHashSet<>(orderProductIds);
+        Map<Long, DeliveryStatus> currentStatuses = new HashMap<>();
+        for (OrderProductStatusView view : orderProductRepository.lockDeliveryStatusesByIds(requestedIds, sellerId)) {
+            currentStatuses.put(view.orderProductId(), view.deliveryStatus());
+        }
+
+        List<Long> targetIds = currentStatuses.entrySet().stream()
+                .filter(entry -> changeableFrom.contains(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        int updatedCount = 0;
+        if (!targetIds.isEmpty()) {
+            // 허용된 이전 상태 조건을 SQL에 함께 걸어서 한 번에 변경
+            updatedCount = orderProductRepository.updateDeliveryStatus(targetIds, changeableFrom, deliveryStatus);
+
+            // 결제 후(배송 전) 취소된 주문상품은 결제 때 차감한 재고를 같은 트랜잭션에서 되돌린다.
+            if (deliveryStatus == DeliveryStatus.CANCEL_DELIVERY) {
+                restoreStock(targetIds.stream()
+                        .filter(id -> currentStatuses.get(id).isPaid())
+                        .toList());
+            }
+
+            // 판매 집계, 판매자 통계는 커밋 이후 아웃박스 이벤트로 반영 (여러 주문에 걸칠 수 있으므로 주문 id는 없음)
+            List<OrderProductStatusChange> changes = targetIds.stream()
+                    .map(id -> new OrderProductStatusChange(id, currentStatuses.get(id), deliveryStatus))
+                    .toList();
+            OutboxEventType eventType = deliveryStatus == DeliveryStatus.CANCEL_DELIVERY
+                    ? OutboxEventType.ORDER_CANCELLED
+                    : OutboxEventType.ORDER_STATUS_CHANGED;
+            outboxService.append(eventType, null, new OrderProductsStatusChangedPayload(changes));
+        }
+
+        List<DeliveryStatusUpdateResult> results = requestedIds.stream()
+                .map(id -> toResult(id, currentStatuses.get(id), deliveryStatus, changeableFrom))
+                .toList();
+
+        return new BulkDeliveryStatusResponse(deliveryStatus, updatedCount, results);
+    }
+
+    private void restoreStock(List<Long> cancelledPaidIds) {
+        if (cancelledPaidIds.isEmpty()) {
+            return;
+        }
+        productDetailRepository.restoreSizeStock(cancelledPaidIds);
+        productRepository.restoreTotalStock(cancelledPaidIds, LocalDateTime.now());
+
+        // 상품 상세/목록 캐시는 커밋 이후 무효화
+        orderProductRepository.findProductIdsByIds(cancelledPaidIds)
+                .forEach(productId -> eventPublisher.publishEvent(new ProductChangedEvent(productId)));
+    }
 
-        orderProduct.changeDeliveryStatus(deliveryStatus);
+    private DeliveryStatusUpdateResult toResult(Long orderProductId, DeliveryStatus beforeStatus,
+                                                DeliveryStatus deliveryStatus, Set<DeliveryStatus> changeableFrom) {
+        DeliveryStatusUpdateResultCode code;
+        if (beforeStatus == null) {
+            code = DeliveryStatusUpdateResultCode.NOT_FOUND;
+        } else if (beforeStatus == deliveryStatus) {
+            code = DeliveryStatusUpdateResultCode.UNCHANGED;
+        } else if (changeableFrom.contains(beforeStatus)) {
+            code = DeliveryStatusUpdateResultCode.UPDATED;
+        } else {
+            code = DeliveryStatusUpdateResultCode.INVALID_TRANSITION;
+        }
+        return new DeliveryStatusUpdateResult(orderProductId, beforeStatus, code);
     }
 
 
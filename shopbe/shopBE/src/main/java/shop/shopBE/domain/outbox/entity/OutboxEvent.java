@@ -0,0 +1,71 @@
+package shop.shopBE.domain.outbox.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import shop.shopBE.domain.outbox.entity.enums.OutboxEventType;
+
+import java.time.LocalDateTime;
+
+// 도메인 변경과 같은 트랜잭션에서 기록되는 후속 작업 이벤트. 커밋 이후 OutboxDispatcher가 처리하고 처리가 끝나면 삭제한다.
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(indexes = {
+        @Index(name = "idx_outbox_event_next_attempt_at", columnList = "nextAttemptAt")
+})
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType eventType;
+
+    // 이벤트가 발생한 대상의 기본키 (주문 이벤트는 주문 내역 id, 여러 주문에 걸친 이벤트는 null)
+    private Long aggregateId;
+
+    // 이벤트 내용 (JSON)
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    // 처리 시도 횟수
+    private int attemptCount;
+
+    // 다음 처리 시도 시각 (처리 중에는 점유 만료 시각)
+    private LocalDateTime nextAttemptAt;
+
+    // 마지막 실패 사유
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    public static OutboxEvent createOutboxEvent(OutboxEventType eventType, Long aggregateId, String payload) {
+        LocalDateTime now = LocalDateTime.now();
+        return OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .payload(payload)
+                .attemptCount(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    // 처리를 시작하면서 점유 만료 시각까지 다른 워커가 가져가지 않게 한다.
+    public void claimUntil(LocalDateTime leaseUntil) {
+        this.attemptCount++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String lastError) {
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = lastError;
+    }
+}
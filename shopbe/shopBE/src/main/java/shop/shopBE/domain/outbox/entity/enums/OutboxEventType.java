@@ -0,0 +1,14 @@
+package shop.shopBE.domain.outbox.entity.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum OutboxEventType {
+    ORDER_PLACED("주문 생성"),
+    ORDER_STATUS_CHANGED("주문 상태 변경"),
+    ORDER_CANCELLED("주문 취소");
+
+    private final String description;
+}
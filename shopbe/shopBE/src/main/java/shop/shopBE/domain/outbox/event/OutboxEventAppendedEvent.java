@@ -0,0 +1,5 @@
+package shop.shopBE.domain.outbox.event;
+
+// 아웃박스에 이벤트가 기록됨 (커밋 이후 디스패처를 깨우는 용도)
+public record OutboxEventAppendedEvent(Long outboxEventId) {
+}
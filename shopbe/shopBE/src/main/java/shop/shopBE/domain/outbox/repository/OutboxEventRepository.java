@@ -0,0 +1,32 @@
+package shop.shopBE.domain.outbox.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import shop.shopBE.domain.outbox.entity.OutboxEvent;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 처리할 시각이 된 이벤트를 잠그고 가져온다.
+    // 다른 인스턴스가 잠근 행은 건너뛰므로 여러 디스패처가 동시에 돌아도 같은 묶음을 나눠 가진다.
+    @Query(value = "select * from outbox_event where next_attempt_at <= :now and attempt_count < :maxAttempts " +
+            "order by id limit :limit for update skip locked", nativeQuery = true)
+    List<OutboxEvent> findDueForUpdate(@Param("now") LocalDateTime now,
+                                       @Param("maxAttempts") int maxAttempts,
+                                       @Param("limit") int limit);
+
+    // 처리할 이벤트 하나를 잠근다. 이미 처리되어 삭제된 이벤트면 비어 있다.
+    @Query(value = "select * from outbox_event where id = :id for update", nativeQuery = true)
+    Optional<OutboxEvent> findByIdForUpdate(@Param("id") Long id);
+
+    // 아직 처리되지 않은 이벤트 id (처리를 포기한 이벤트는 제외)
+    @Query(value = "select id from outbox_event where event_type in (:eventTypes) and attempt_count < :maxAttempts " +
+            "order by id", nativeQuery = true)
+    List<Long> findPendingIds(@Param("eventTypes") Collection<String> eventTypes,
+                              @Param("maxAttempts") int maxAttempts);
+}
@@ -0,0 +1,82 @@
+package shop.shopBE.domain.outbox.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shop.shopBE.domain.outbox.event.OutboxEventAppendedEvent;
+import shop.shopBE.global.utils.thread.WorkerThreads;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 아웃박스 이벤트를 요청 스레드 밖에서 처리한다.
+// 커밋 직후 이벤트로 깨어나고, 실패한 이벤트의 재시도와 다른 인스턴스가 남긴 이벤트는 주기적인 실행으로 처리한다.
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxService outboxService;
+
+    // 하나의 스레드에서만 실행하고, 실행 중에 들어온 요청은 한 번의 추가 실행으로 합친다.
+    private final ExecutorService executor;
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    private final int batchSize;
+
+    public OutboxDispatcher(OutboxService outboxService,
+                            @Value("${outbox.batch-size:100}") int batchSize,
+                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.outboxService = outboxService;
+        this.batchSize = batchSize;
+        this.executor = Executors.newSingleThreadExecutor(WorkerThreads.threadFactory("outbox-dispatcher", virtualThreads));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOutboxEventAppended(OutboxEventAppendedEvent event) {
+        trigger();
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:5000}")
+    public void poll() {
+        trigger();
+    }
+
+    public void trigger() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        scheduled.set(false);
+        try {
+            // 한 묶음이 가득 찼으면 남은 이벤트가 있을 수 있으므로 계속 처리
+            List<Long> claimed;
+            do {
+                claimed = outboxService.claimBatch(batchSize);
+                claimed.forEach(this::dispatch);
+            } while (claimed.size() >= batchSize);
+        } catch (Exception e) {
+            log.error("아웃박스 이벤트 처리 실패", e);
+        }
+    }
+
+    private void dispatch(Long outboxEventId) {
+        try {
+            outboxService.process(outboxEventId);
+        } catch (Exception e) {
+            outboxService.markFailed(outboxEventId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,13 @@
+package shop.shopBE.domain.outbox.service;
+
+import shop.shopBE.domain.outbox.entity.OutboxEvent;
+import shop.shopBE.domain.outbox.entity.enums.OutboxEventType;
+
+// 아웃박스 이벤트 처리기. 이벤트 삭제와 같은 트랜잭션에서 실행되고, 실패하면 전체가 롤백되어 나중에 다시 실행된다.
+// 트랜잭션 밖의 작업(알림 등)은 두 번 이상 실행될 수 있으므로 중복 실행에 안전해야 한다.
+public interface OutboxEventHandler {
+
+    boolean supports(OutboxEventType eventType);
+
+    void handle(OutboxEvent event);
+}
@@ -0,0 +1,31 @@
+package shop.shopBE.domain.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import shop.shopBE.domain.outbox.entity.OutboxEvent;
+
+// 아웃박스 이벤트 내용(JSON) 변환
+@Component
+@RequiredArgsConstructor
+public class OutboxPayloadMapper {
+
+    private final ObjectMapper objectMapper;
+
+    public String write(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 내용을 기록할 수 없습니다.", e);
+        }
+    }
+
+    public <T> T read(OutboxEvent event, Class<T> payloadType) {
+        try {
+            return objectMapper.readValue(event.getPayload(), payloadType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 내용을 읽을 수 없습니다. id=" + event.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package shop.shopBE.domain.outbox.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import shop.shopBE.domain.outbox.entity.OutboxEvent;
+import shop.shopBE.domain.outbox.entity.enums.OutboxEventType;
+import shop.shopBE.domain.outbox.event.OutboxEventAppendedEvent;
+import shop.shopBE.domain.outbox.repository.OutboxEventRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OutboxService {
+
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventHandler> handlers;
+    private final OutboxPayloadMapper outboxPayloadMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 처리 중인 이벤트를 다른 워커가 다시 가져가기까지의 시간
+    @Value("${outbox.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.retry-base-delay-ms:5000}")
+    private long retryBaseDelayMs;
+
+    // 호출한 쪽의 트랜잭션에 이벤트를 기록한다. (트랜잭션이 롤백되면 이벤트도 남지 않음)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType eventType, Long aggregateId, Object payload) {
+        OutboxEvent outboxEvent = outboxEventRepository.save(
+                OutboxEvent.createOutboxEvent(eventType, aggregateId, outboxPayloadMapper.write(payload)));
+        eventPublisher.publishEvent(new OutboxEventAppendedEvent(outboxEvent.getId()));
+    }
+
+    // 처리할 이벤트를 한 묶음 점유하고 id를 반환한다.
+    @Transactional
+    public List<Long> claimBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.findDueForUpdate(now, maxAttempts, batchSize);
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        events.forEach(event -> event.claimUntil(leaseUntil));
+
+        return events.stream()
+                .map(OutboxEvent::getId)
+                .toList();
+    }
+
+    // 이벤트 하나를 처리하고 삭제한다. 처리기의 DB 작업과 삭제가 한 트랜잭션이므로 DB 작업은 한 번만 반영된다.
+    @Transactional
+    public void process(Long outboxEventId) {
+        Optional<OutboxEvent> found = outboxEventRepository.findByIdForUpdate(outboxEventId);
+        if (found.isEmpty()) {
+            return;
+        }
+
+        OutboxEvent event = found.get();
+        for (OutboxEventHandler handler : handlers) {
+            if (handler.supports(event.getEventType())) {
+                handler.handle(event);
+            }
+        }
+        outboxEventRepository.delete(event);
+    }
+
+    // 아직 처리되지 않은 이벤트를 호출한 쪽의 트랜잭션에서 바로 처리한다.
+    // 집계를 처음부터 다시 만드는 작업이 뒤늦게 처리될 증감분과 겹치지 않도록, 재집계 전에 사용한다.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int processPending(Collection<OutboxEventType> eventTypes) {
+        List<String> typeNames = eventTypes.stream()
+                .map(OutboxEventType::name)
+                .toList();
+        List<Long> pendingIds = outboxEventRepository.findPendingIds(typeNames, maxAttempts);
+        pendingIds.forEach(this::process);
+        return pendingIds.size();
+    }
+
+    // 처리에 실패한 이벤트는 지수적으로 늘어나는 간격으로 다시 시도한다.
+    @Transactional
+    public void markFailed(Long outboxEventId, Exception cause) {
+        outboxEventRepository.findById(outboxEventId).ifPresent(event -> {
+            event.retryAt(LocalDateTime.now().plus(backoff(event.getAttemptCount())), truncate(String.valueOf(cause)));
+
+            if (event.getAttemptCount() >= maxAttempts) {
+                log.error("아웃박스 이벤트 처리 포기 id={}, type={}, attemptCount={}", event.getId(), event.getEventType(), event.getAttemptCount(), cause);
+            } else {
+                log.warn("아웃박스 이벤트 처리 실패 id={}, type={}, attemptCount={}", event.getId(), event.getEventType(), event.getAttemptCount(), cause);
+            }
+        });
+    }
+
+    private Duration backoff(int attemptCount) {
+        long delay = retryBaseDelayMs << Math.min(attemptCount, 20);
+        return delay > MAX_BACKOFF.toMillis() ? MAX_BACKOFF : Duration.ofMillis(delay);
+    }
+
+    private String truncate(String message) {
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
@@ -10,21 +10,30 @@ import org.springframework.boot.web.servlet.ServletComponentScan;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import shop.shopBE.domain.likesitem.response.LikedProducts;
+import shop.shopBE.domain.likesitem.service.LikesItemFacadeService;
 import shop.shopBE.domain.product.entity.enums.PersonCategory;
 import shop.shopBE.domain.product.entity.enums.ProductCategory;
 import shop.shopBE.domain.product.entity.enums.SeasonCategory;
 import shop.shopBE.domain.product.request.*;
 import shop.shopBE.domain.product.response.ProductCardViewModel;
 import shop.shopBE.domain.product.response.ProductInformsModelView;
+import shop.shopBE.domain.product.response.ProductVersion;
 import shop.shopBE.domain.product.service.ProductService;
 import shop.shopBE.global.config.security.mapper.token.AuthToken;
 import shop.shopBE.global.response.ResponseFormat;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
 @RestController
@@ -32,6 +41,7 @@ import java.util.List;
 @Tag(name = "상품", description = "상품 관련 API")
 public class ProductController {
     private final ProductService productService;
+    private final LikesItemFacadeService likesItemFacadeService;
 
 
     // 메인페이지 상품조회 likeCount로 조회
@@ -42,19 +52,69 @@ public class ProductController {
                                                                                               @RequestParam(name = "personCategory", required = false) PersonCategory personCategory,
                                                                                               @RequestParam(name = "productCategory", required = false) ProductCategory productCategory,
                                                                                               @RequestParam(name = "sortingOption", defaultValue = "POPULAR") SortingOption sortingOption,
-                                                                                              @RequestParam(name = "search", required = false) String keyword) {
-
-        List<ProductCardViewModel> findProductCardViews = productService.findProductCardViewsByCategorys(pageable, seasonCategory, personCategory, productCategory, sortingOption, keyword);
-        return ResponseEntity.ok().body(ResponseFormat.of("메인 페이지 상품 조회 성공", findProductCardViews));
+                                                                                              @RequestParam(name = "search", required = false) String keyword,
+                                                                                              @RequestParam(name = "window", required = false) SalesWindow window,
+                                                                                              @AuthenticationPrincipal AuthToken authToken,
+                                                                                              WebRequest webRequest) {
+
+        // 로그인한 회원은 찜 여부를 함께 응답한다. 찜 목록이 바뀌면 ETag도 바뀌도록 찜 목록 버전을 포함한다.
+        LikedProducts likedProducts = authToken == null ? LikedProducts.EMPTY : likesItemFacadeService.findLikedProducts(authToken.getId());
+
+        // 상품이 하나라도 바뀌면 목록의 ETag도 바뀐다. 바뀐 것이 없으면 목록 조회 없이 304 반환
+        // 급상승순, 기간별 판매량순은 상품이 바뀌지 않아도 순서가 바뀌므로 순위 버전, 집계 시각을 ETag에 포함하고 Last-Modified는 사용하지 않는다.
+        LocalDateTime latestUpdatedAt = productService.findLatestUpdatedAt().orElse(null);
+        boolean trending = sortingOption.equals(SortingOption.TRENDING);
+        boolean windowed = sortingOption.equals(SortingOption.BEST_SELLERS) && window != null;
+        String listVersion = latestUpdatedAt + "|" + (trending ? productService.findTrendingRankingsVersion() : 0);
+        if (windowed) {
+            LocalDateTime now = LocalDateTime.now();
+            Object windowStart = window.isHourly() ? window.startHour(now) : window.startDate(now.toLocalDate());
+            listVersion += "|" + window + "|" + windowStart + "|" + productService.findLatestSalesUpdatedAt(window).orElse(null);
+        }
+        if (authToken != null) {
+            listVersion += "|" + authToken.getId() + "|" + likedProducts.version();
+        }
+        String eTag = createListETag(listVersion, pageable, seasonCategory, personCategory, productCategory, sortingOption, keyword);
+        long lastModified = trending || windowed || authToken != null ? -1 : toEpochMilli(latestUpdatedAt);
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+
+        List<ProductCardViewModel> findProductCardViews = productService.findProductCardViewsByCategorys(pageable, seasonCategory, personCategory, productCategory, sortingOption, keyword, window);
+        if (likedProducts.size() > 0) {
+            findProductCardViews = findProductCardViews.stream()
+                    .map(cardView -> cardView.withLiked(likedProducts.contains(cardView.productId())))
+                    .toList();
+        }
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(authToken == null ? CacheControl.noCache() : CacheControl.noCache().cachePrivate()); // 매번 ETag로 재검증
+        if (lastModified > 0) {
+            responseBuilder.lastModified(lastModified);
+        }
+        return responseBuilder.body(ResponseFormat.of("메인 페이지 상품 조회 성공", findProductCardViews));
     }
 
     // 상품 상세 조회 - 상품아이디를 통해 상품의 세부사항를 보여줌
     @GetMapping("/products/{productId}")
     @Operation(summary = "상품의 세부사항 조회", description = "상품의 번호를 통해 상품에 상세 설명을 보여준다")
-    public ResponseEntity<ResponseFormat<ProductInformsModelView>> findProductDetailsByProductId(@PathVariable("productId") Long productId) {
+    public ResponseEntity<ResponseFormat<ProductInformsModelView>> findProductDetailsByProductId(@PathVariable("productId") Long productId,
+                                                                                                 WebRequest webRequest) {
+
+        // 버전만 먼저 확인하고, 바뀐 것이 없으면 상세 조회 쿼리 없이 304 반환
+        ProductVersion productVersion = productService.findProductVersion(productId);
+        String eTag = "\"" + productId + "-" + productVersion.version() + "\"";
+        long lastModified = toEpochMilli(productVersion.updatedAt());
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
 
         ProductInformsModelView productInformsModelView = productService.findProductDetailsByProductId(productId);
-        return ResponseEntity.ok().body(ResponseFormat.of("상품 상세정보 조회 성공", productInformsModelView));
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .cacheControl(CacheControl.noCache())
+                .body(ResponseFormat.of("상품 상세정보 조회 성공", productInformsModelView));
     }
 
     // 판매자의 등록 상품 조회.
@@ -120,6 +180,21 @@ public class ProductController {
         return ResponseEntity.ok().body(ResponseFormat.of("상품 수정 성공"));
     }
 
+
+    // 목록 조건과 목록 버전(최종 수정 시각, 급상승 순위 버전)으로 ETag 생성
+    private String createListETag(String listVersion, Pageable pageable, SeasonCategory seasonCategory,
+                                  PersonCategory personCategory, ProductCategory productCategory,
+                                  SortingOption sortingOption, String keyword) {
+        String source = listVersion + "|" + pageable + "|" + seasonCategory + "|" + personCategory + "|"
+                + productCategory + "|" + sortingOption + "|" + keyword;
+        return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // Last-Modified 값이 없으면 -1 (헤더를 보내지 않음)
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
 }
 
 
@@ -25,7 +25,11 @@ import java.util.UUID;
         indexes = {
                 @Index(name = "idx_product_like_count", columnList = "likeCount"), // likeCount에 인덱스 추가
                 @Index(name = "idx_product_sales_volume", columnList = "salesVolume"), // salesVolume에 인덱스 추가
-                @Index(name = "idx_product_price", columnList = "price") // price에 인덱스 추가
+                @Index(name = "idx_product_price", columnList = "price"), // price에 인덱스 추가
+                @Index(name = "idx_product_updated_at", columnList = "updatedAt"), // 목록 조회의 최종 수정 시각 조회용
+                @Index(name = "idx_product_category_like_count", columnList = "productCategory, likeCount"), // 카테고리 필터 + 인기순
+                @Index(name = "idx_product_person_category", columnList = "personCategory"),
+                @Index(name = "idx_product_season_category", columnList = "seasonCategory")
         }
 )
 public class Product {
@@ -60,6 +64,14 @@ public class Product {
     // 상품 등록 날짜
     private LocalDateTime createdAt;
 
+    // 상품 응답 캐시 검증(ETag)용 버전. 상세 조회에 보이는 값이 바뀔 때마다 증가한다.
+    // 좋아요 수처럼 동시에 자주 바뀌는 값도 포함하므로 낙관적 락(@Version)으로 쓰지 않는다.
+    @Builder.Default
+    private long version = 0L;
+
+    // 마지막 수정 시각 (Last-Modified)
+    private LocalDateTime updatedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;   // seller
@@ -88,6 +100,7 @@ public class Product {
                 .price(price)
                 .description(description)
                 .createdAt(createdAt)
+                .updatedAt(createdAt)
                 .build();
     }
 
@@ -95,6 +108,7 @@ public class Product {
     // 상품 논리적 제거 메서드
     public void deleteProduct(Boolean isDeleted) {
         this.isDeleted = isDeleted;
+        touch();
     }
 
     // 상품 재고감소 (업데이트) 메서드 - 상품재고가 0인 상태에서 minusTotalStock을 한다면 에러를 보내줌
@@ -107,30 +121,19 @@ public class Product {
             throw new CustomException(ProductExceptionCode.OUT_OF_STOCK);
         }
         this.totalStock -= stock;
-    }
-
-    // 찜숫자 감소(업데이트) 메서드 - 찜숫자가 0인 상태에서 minusLikeCOunt를 한다면 에러를 보내줌.
-    public void minusLikeCount() {
-        if (this.likeCount < 0) {
-            // 400에러를 날려준다. 좋아요 감소할수없다는 에러 메세지를 보내줌.
-            throw new CustomException(ProductExceptionCode.INVALID_MINUS_LIKE_REQUEST);
-        }
-        this.likeCount -= 1;
+        touch();
     }
 
     // 판매량 증가 (업데이트) 메서드
     public void plusSalesVolume(int salesVolume) {
         this.salesVolume += salesVolume;
-    }
-
-    // 찜숫자 증가 (업데이트) 메서드
-    public void plusLikeCount() {
-        this.likeCount += 1;
+        touch();
     }
 
     // 상품 재고증가 (업데이트) 메서드
     public void plusTotalStock(int stock) {
         this.totalStock += stock;
+        touch();
     }
 
     public void updateProduct(String productName,
@@ -151,5 +154,12 @@ public class Product {
             this.seasonCategory = seasonCategory;
             this.totalStock = totalStock;
         }
+        touch();
+    }
+
+    // 버전과 수정 시각 갱신
+    private void touch() {
+        this.version++;
+        this.updatedAt = LocalDateTime.now();
     }
 }
\ No newline at end of file
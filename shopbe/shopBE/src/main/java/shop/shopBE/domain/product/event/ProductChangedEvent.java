@@ -0,0 +1,14 @@
+package shop.shopBE.domain.product.event;
+
+// 상품 정보(상세, 재고, 좋아요 수, 삭제 여부 등)가 바뀌었음을 알리는 이벤트. 커밋 이후 캐시 무효화에 사용
+// likeCountOnly: 찜 수만 바뀐 경우. 상품명 검색 색인처럼 찜 수를 쓰지 않는 곳은 무시한다.
+public record ProductChangedEvent(Long productId, boolean likeCountOnly) {
+
+    public ProductChangedEvent(Long productId) {
+        this(productId, false);
+    }
+
+    public static ProductChangedEvent likeCountChanged(Long productId) {
+        return new ProductChangedEvent(productId, true);
+    }
+}
@@ -1,7 +1,42 @@
 package shop.shopBE.domain.product.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import shop.shopBE.domain.product.entity.Product;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 public interface ProductRepository extends JpaRepository<Product, Long>,ProductRepositoryCustom {
+
+    // 찜숫자 증가 - 엔티티를 읽지 않고 DB에서 원자적으로 증가시킨다. (조건부 요청용 버전, 수정 시각도 함께 갱신)
+    // 찜 추가의 첫 쿼리로 실행해서 상품 행의 배타 락을 잡는다. 없거나 삭제된 상품이면 0을 반환한다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Product p set p.likeCount = p.likeCount + 1, p.version = p.version + 1, p.updatedAt = :updatedAt " +
+            "where p.id = :productId and p.isDeleted = false")
+    int increaseLikeCount(@Param("productId") Long productId, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 찜숫자 감소 - 0 아래로는 내려가지 않는다. 찜 삭제의 첫 쿼리로 실행해서 상품 행의 배타 락을 잡는다.
+    // 삭제된 상품의 찜도 지울 수 있어야 하므로 삭제 여부는 보지 않는다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Product p set p.likeCount = p.likeCount - 1, p.version = p.version + 1, p.updatedAt = :updatedAt " +
+            "where p.id = :productId and p.likeCount > 0")
+    int decreaseLikeCount(@Param("productId") Long productId, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 먼저 바꾼 찜숫자를 되돌린다. (찜 아이템이 이미 있거나 없어서 실제로 바뀐 것이 없을 때)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Product p set p.likeCount = p.likeCount + :delta, p.version = p.version + 1, p.updatedAt = :updatedAt " +
+            "where p.id = :productId")
+    int addLikeCount(@Param("productId") Long productId, @Param("delta") int delta, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 결제 후 취소된 주문상품 수량만큼 상품 총 재고를 되돌린다. (상품별 합계를 한 번에 더함)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Product p set p.totalStock = p.totalStock + " +
+            "(select sum(op.productCount) from OrderProduct op where op.id in :orderProductIds and op.productDetail.product.id = p.id), " +
+            "p.version = p.version + 1, p.updatedAt = :updatedAt " +
+            "where p.id in (select op.productDetail.product.id from OrderProduct op where op.id in :orderProductIds)")
+    int restoreTotalStock(@Param("orderProductIds") Collection<Long> orderProductIds,
+                          @Param("updatedAt") LocalDateTime updatedAt);
 }
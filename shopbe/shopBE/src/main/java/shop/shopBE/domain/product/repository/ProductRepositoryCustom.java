@@ -5,13 +5,17 @@ import shop.shopBE.domain.product.entity.Product;
 import shop.shopBE.domain.product.entity.enums.PersonCategory;
 import shop.shopBE.domain.product.entity.enums.ProductCategory;
 import shop.shopBE.domain.product.entity.enums.SeasonCategory;
+import shop.shopBE.domain.product.request.SalesWindow;
 import shop.shopBE.domain.product.request.SortingOption;
 import shop.shopBE.domain.product.response.ProductCardViewModel;
 import shop.shopBE.domain.product.response.ProductInformsModelView;
 import shop.shopBE.domain.product.response.ProductInformsResp;
 import shop.shopBE.domain.product.response.ProductListViewModel;
+import shop.shopBE.domain.product.response.ProductVersion;
 
 import javax.swing.text.html.Option;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,8 +26,8 @@ public interface ProductRepositoryCustom {
 
     Optional<Product> findSellerProductByProductId(Long productId, Long sellerId);
 
-    // 상품 카드 데이터를 리턴해주는 메소드
-    Optional<List<ProductListViewModel>> getProductListViewModels(Long likesId);
+    // 상품 카드 데이터를 리턴해주는 메소드 - 찜 아이템 id 내림차순으로 cursor 이전의 limit개 (cursor가 null이면 처음부터)
+    Optional<List<ProductListViewModel>> getProductListViewModels(Long likesId, Long cursor, int limit);
 
     // 판매자가 등록한 상품 조회
     Optional<List<Long>> findRegisteredProductsBySellerId(Long sellerId);
@@ -37,27 +41,45 @@ public interface ProductRepositoryCustom {
     // 상품 상세조회의 필드를 찾기위한 메서드
     Optional<ProductInformsResp> findProductInformsByProductId(Long productId);
 
+    // 상품 상세조회 응답의 버전 정보 조회 (조건부 요청 확인용)
+    Optional<ProductVersion> findProductVersionByProductId(Long productId);
+
+    // 전체 상품 중 가장 최근의 수정 시각 조회 (상품 목록 조건부 요청 확인용)
+    Optional<LocalDateTime> findLatestUpdatedAt();
+
 
 
     Optional<List<ProductCardViewModel>> findProductCardViewsByCategorysOrderByLikeCountDesc (Pageable pageable, SeasonCategory seasonCategory,
                                                                                               PersonCategory personCategory,
                                                                                               ProductCategory productCategory,
-                                                                                              String keyword);
+                                                                                              String keyword,
+                                                                                              Collection<Long> matchedProductIds);
 
     Optional<List<ProductCardViewModel>> findProductCardViewsByCategorysOrderByCreateAtDesc (Pageable pageable, SeasonCategory seasonCategory,
                                                                                               PersonCategory personCategory,
                                                                                               ProductCategory productCategory,
-                                                                                              String keyword);
+                                                                                              String keyword,
+                                                                                              Collection<Long> matchedProductIds);
 
     Optional<List<ProductCardViewModel>> findProductCardViewsByCategorysOrderBySalesVolumesDesc (Pageable pageable, SeasonCategory seasonCategory,
                                                                                               PersonCategory personCategory,
                                                                                               ProductCategory productCategory,
-                                                                                              String keyword);
+                                                                                              String keyword,
+                                                                                              Collection<Long> matchedProductIds);
+
+    // 기간 내 판매 수량순 조회 (판매 집계 테이블 사용, 기간 내 판매가 없는 상품은 제외)
+    Optional<List<ProductCardViewModel>> findProductCardViewsByCategorysOrderByWindowSalesDesc (Pageable pageable, SeasonCategory seasonCategory,
+                                                                                              PersonCategory personCategory,
+                                                                                              ProductCategory productCategory,
+                                                                                              String keyword,
+                                                                                              Collection<Long> matchedProductIds,
+                                                                                              SalesWindow window);
 
     Optional<List<ProductCardViewModel>> findProductCardViewsByCategorysOrderByPriceAsc (Pageable pageable, SeasonCategory seasonCategory,
                                                                                               PersonCategory personCategory,
                                                                                               ProductCategory productCategory,
-                                                                                              String keyword);
+                                                                                              String keyword,
+                                                                                              Collection<Long> matchedProductIds);
 }
 
 
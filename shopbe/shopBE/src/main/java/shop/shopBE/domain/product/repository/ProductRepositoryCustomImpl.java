@@ -3,6 +3,7 @@ package shop.shopBE.domain.product.repository;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,20 +13,27 @@ import shop.shopBE.domain.product.entity.QProduct;
 import shop.shopBE.domain.product.entity.enums.PersonCategory;
 import shop.shopBE.domain.product.entity.enums.ProductCategory;
 import shop.shopBE.domain.product.entity.enums.SeasonCategory;
+import shop.shopBE.domain.product.request.SalesWindow;
 import shop.shopBE.domain.product.request.SortingOption;
 import shop.shopBE.domain.product.response.ProductCardViewModel;
 import shop.shopBE.domain.product.response.ProductInformsModelView;
 import shop.shopBE.domain.product.response.ProductInformsResp;
 import shop.shopBE.domain.product.response.ProductListViewModel;
+import shop.shopBE.domain.product.response.ProductVersion;
 import shop.shopBE.domain.productimage.entity.QProductImage;
 import shop.shopBE.domain.productimage.entity.enums.ProductImageCategory;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import static shop.shopBE.domain.likesitem.entity.QLikesItem.likesItem;
 import static shop.shopBE.domain.product.entity.QProduct.product;
 import static shop.shopBE.domain.productimage.entity.QProductImage.productImage;
+import static shop.shopBE.domain.productsales.entity.QProductSalesDaily.productSalesDaily;
+import static shop.shopBE.domain.productsales.entity.QProductSalesHourly.productSalesHourly;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -62,7 +70,8 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
     }
 
     @Override
-    public Optional<List<ProductListViewModel>> getProductListViewModels(Long likesId) {
+    public Optional<List<ProductListViewModel>> getProductListViewModels(Long likesId, Long cursor, int limit) {
+        // (likes_id, id) 인덱스 범위를 찜 아이템 id 역순으로 읽는다.
         List<ProductListViewModel> result = queryFactory
                 .select(Projections.constructor(ProductListViewModel.class,
                         product.id,
@@ -71,14 +80,17 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
                         product.productName,
                         product.price
                 ))
-                .from(product)
+                .from(likesItem)
+                .innerJoin(product).on(likesItem.product.id.eq(product.id))
                 .innerJoin(productImage).on(product.id.eq(productImage.product.id))
-                .innerJoin(likesItem).on(likesItem.product.id.eq(product.id))
                 .where(
                         likesItem.likes.id.eq(likesId),
+                        cursor == null ? null : likesItem.id.lt(cursor),
                         productImage.productImageCategory.eq(ProductImageCategory.MAIN),
                         product.isDeleted.eq(false)
                 )
+                .orderBy(likesItem.id.desc())
+                .limit(limit)
                 .fetch();
 
         return Optional.ofNullable(result);
@@ -92,7 +104,8 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
                                                                                                     SeasonCategory seasonCategory,
                                                                                                     PersonCategory personCategory,
                                                                                                     ProductCategory productCategory,
-                                                                                                    String keyword) {
+                                                                                                    String keyword,
+                                                                                                    Collection<Long> matchedProductIds) {
 
         List<ProductCardViewModel> cardViews = queryFactory
                 .select(Projections.constructor(ProductCardViewModel.class,
@@ -107,7 +120,7 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
                 .where(andProductCategory(productCategory),
                         andPersonCategory(personCategory),
                         andSeasonCategory(seasonCategory),
-                        productNameLike(keyword),
+                        keywordCondition(keyword, matchedProductIds),
                         productImage.productImageCategory.eq(ProductImageCategory.MAIN))
                 .orderBy(product.likeCount.desc())
                 .offset(pageable.getOffset())
@@ -123,7 +136,8 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
                                                                                                    SeasonCategory seasonCategory,
                                                                                                    PersonCategory personCategory,
                                                                                                    ProductCategory productCategory,
-                                                                                                   String keyword) {
+                                                                                                   String keyword,
+                                                                                                   Collection<Long> matchedProductIds) {
 
         List<ProductCardViewModel> cardViews = queryFactory
                 .select(Projections.constructor(ProductCardViewModel.class,
@@ -138,7 +152,7 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
                 .where(andProductCategory(productCategory),
                         andPersonCategory(personCategory),
                         andSeasonCategory(seasonCategory),
-                        productNameLike(keyword),
+                        keywordCondition(keyword, matchedProductIds),
                         productImage.productImageCategory.eq(ProductImageCategory.MAIN))
                 .orderBy(product.id.desc())
                 .offset(pageable.getOffset())
@@ -154,7 +168,8 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
                                                                                                        SeasonCategory seasonCategory,
                                                                                                        PersonCategory personCategory,
                                                                                                        ProductCategory productCategory,
-                                                                                                       String keyword) {
+                                                                                                       String keyword,
+                                                                                                       Collection<Long> matchedProductIds) {
         List<ProductCardViewModel> cardViews = queryFactory
                 .select(Projections.constructor(ProductCardViewModel.class,
                         product.id,
@@ -168,7 +183,7 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
                 .where(andProductCategory(productCategory),
                         andPersonCategory(personCategory),
                         andSeasonCategory(seasonCategory),
-                        productNameLike(keyword),
+                        keywordCondition(keyword, matchedProductIds),
                         productImage.productImageCategory.eq(ProductImageCategory.MAIN))
                 .orderBy(product.salesVolume.desc())
                 .offset(pageable.getOffset())
@@ -179,12 +194,83 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
         return Optional.ofNullable(cardViews);
     }
 
+    @Override
+    public Optional<List<ProductCardViewModel>> findProductCardViewsByCategorysOrderByWindowSalesDesc(Pageable pageable,
+                                                                                                       SeasonCategory seasonCategory,
+                                                                                                       PersonCategory personCategory,
+                                                                                                       ProductCategory productCategory,
+                                                                                                       String keyword,
+                                                                                                       Collection<Long> matchedProductIds,
+                                                                                                       SalesWindow window) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 기간 내 집계 행만 읽도록 집계 테이블에서 시작해 상품을 조인한다.
+        List<ProductCardViewModel> cardViews;
+        if (window.isHourly()) {
+            NumberExpression<Long> soldQuantity = productSalesHourly.quantity.sum();
+            cardViews = queryFactory
+                    .select(Projections.constructor(ProductCardViewModel.class,
+                            product.id,
+                            productImage.savedName,
+                            product.productName,
+                            product.price
+                    ))
+                    .from(productSalesHourly)
+                    .join(product)
+                    .on(product.id.eq(productSalesHourly.productId))
+                    .join(productImage)
+                    .on(productImage.product.eq(product))
+                    .where(productSalesHourly.bucketStart.goe(window.startHour(now)),
+                            andProductCategory(productCategory),
+                            andPersonCategory(personCategory),
+                            andSeasonCategory(seasonCategory),
+                            keywordCondition(keyword, matchedProductIds),
+                            productImage.productImageCategory.eq(ProductImageCategory.MAIN))
+                    .groupBy(product.id, productImage.savedName, product.productName, product.price)
+                    .having(soldQuantity.gt(0L))
+                    .orderBy(soldQuantity.desc(), product.id.desc())
+                    .offset(pageable.getOffset())
+                    .limit(pageable.getPageSize())
+                    .fetch();
+        } else {
+            LocalDate today = now.toLocalDate();
+            NumberExpression<Long> soldQuantity = productSalesDaily.quantity.sum();
+            cardViews = queryFactory
+                    .select(Projections.constructor(ProductCardViewModel.class,
+                            product.id,
+                            productImage.savedName,
+                            product.productName,
+                            product.price
+                    ))
+                    .from(productSalesDaily)
+                    .join(product)
+                    .on(product.id.eq(productSalesDaily.productId))
+                    .join(productImage)
+                    .on(productImage.product.eq(product))
+                    .where(productSalesDaily.salesDate.goe(window.startDate(today)),
+                            andProductCategory(productCategory),
+                            andPersonCategory(personCategory),
+                            andSeasonCategory(seasonCategory),
+                            keywordCondition(keyword, matchedProductIds),
+                            productImage.productImageCategory.eq(ProductImageCategory.MAIN))
+                    .groupBy(product.id, productImage.savedName, product.productName, product.price)
+                    .having(soldQuantity.gt(0L))
+                    .orderBy(soldQuantity.desc(), product.id.desc())
+                    .offset(pageable.getOffset())
+                    .limit(pageable.getPageSize())
+                    .fetch();
+        }
+
+        return Optional.ofNullable(cardViews);
+    }
+
     @Override
     public Optional<List<ProductCardViewModel>> findProductCardViewsByCategorysOrderByPriceAsc(Pageable pageable,
                                                                                                SeasonCategory seasonCategory,
                                                                                                PersonCategory personCategory,
                                                                                                ProductCategory productCategory,
-                                                                                               String keyword) {
+                                                                                               String keyword,
+                                                                                               Collection<Long> matchedProductIds) {
         List<ProductCardViewModel> cardViews = queryFactory
                 .select(Projections.constructor(ProductCardViewModel.class,
                         product.id,
@@ -198,7 +284,7 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
                 .where(andProductCategory(productCategory),
                         andPersonCategory(personCategory),
                         andSeasonCategory(seasonCategory),
-                        productNameLike(keyword),
+                        keywordCondition(keyword, matchedProductIds),
                         productImage.productImageCategory.eq(ProductImageCategory.MAIN))
                 .orderBy(product.price.asc())
                 .offset(pageable.getOffset())
@@ -290,6 +376,33 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
         return Optional.ofNullable(productInform);
     }
 
+    @Override
+    public Optional<ProductVersion> findProductVersionByProductId(Long productId) {
+        ProductVersion productVersion = queryFactory
+                .select(Projections.constructor(ProductVersion.class,
+                        product.id,
+                        product.version,
+                        product.updatedAt.coalesce(product.createdAt)
+                ))
+                .from(product)
+                .where(product.id.eq(productId),
+                        product.isDeleted.eq(false))
+                .fetchOne();
+
+        return Optional.ofNullable(productVersion);
+    }
+
+    // updatedAt 인덱스로 최댓값을 바로 찾는다.
+    @Override
+    public Optional<LocalDateTime> findLatestUpdatedAt() {
+        LocalDateTime latestUpdatedAt = queryFactory
+                .select(product.updatedAt.max())
+                .from(product)
+                .fetchOne();
+
+        return Optional.ofNullable(latestUpdatedAt);
+    }
+
 
     private BooleanExpression andPersonCategory(PersonCategory personCategory) {
         return personCategory == null
@@ -309,5 +422,13 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
     private BooleanExpression productNameLike(String keyword){
         return keyword == null ? null : product.productName.like("%" + keyword + "%");
     }
+
+    // 검색 색인으로 찾은 상품 id가 있으면 id로 조회하고, 없으면(색인 생성 전) 상품명 LIKE로 조회
+    private BooleanExpression keywordCondition(String keyword, Collection<Long> matchedProductIds) {
+        if (keyword == null) {
+            return null;
+        }
+        return matchedProductIds == null ? productNameLike(keyword) : product.id.in(matchedProductIds);
+    }
 }
 
@@ -0,0 +1,45 @@
+package shop.shopBE.domain.product.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// 판매량순 조회 기간. 24시간은 시간 단위 집계, 나머지는 일 단위 집계로 계산한다.
+@Getter
+@AllArgsConstructor
+public enum SalesWindow {
+    H24("24h", 24, 0),
+    D7("7d", 0, 7),
+    D30("30d", 0, 30);
+
+    private final String value;
+    private final int hours;
+    private final int days;
+
+    public boolean isHourly() {
+        return hours > 0;
+    }
+
+    // 시간 단위 집계의 시작 구간 (현재 시간 구간 포함)
+    public LocalDateTime startHour(LocalDateTime now) {
+        return now.truncatedTo(ChronoUnit.HOURS).minusHours(hours - 1);
+    }
+
+    // 일 단위 집계의 시작 일자 (오늘 포함)
+    public LocalDate startDate(LocalDate today) {
+        return today.minusDays(days - 1);
+    }
+
+    // 요청 파라미터 값(24h, 7d, 30d) 또는 이름으로 변환
+    public static SalesWindow from(String value) {
+        for (SalesWindow window : values()) {
+            if (window.value.equalsIgnoreCase(value) || window.name().equalsIgnoreCase(value)) {
+                return window;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 판매 기간입니다: " + value);
+    }
+}
@@ -0,0 +1,14 @@
+package shop.shopBE.domain.product.request;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+// window=24h 형태의 요청 파라미터를 SalesWindow로 변환
+@Component
+public class SalesWindowConverter implements Converter<String, SalesWindow> {
+
+    @Override
+    public SalesWindow convert(String source) {
+        return SalesWindow.from(source.trim());
+    }
+}
@@ -10,7 +10,8 @@ public enum SortingOption {
     BEST_SELLERS("판매량순"),
     RECOMMENDED("추천순"),
     NEW_PRODUCT("신상품(입고)순"),
-    LOW_PRICE("낮은 가격순"),;
+    LOW_PRICE("낮은 가격순"),
+    TRENDING("급상승순"),;
 
     private final String description;
 }
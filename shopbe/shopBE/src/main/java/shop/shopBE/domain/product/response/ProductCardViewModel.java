@@ -2,10 +2,21 @@ package shop.shopBE.domain.product.response;
 
 
 // 메인페이지 상품리스트 DTO
+// isLiked는 로그인한 회원이 찜한 상품인지 여부 (비로그인 조회는 항상 false)
 public record ProductCardViewModel(
         Long productId,
         String imgUrl,
         String productName,
-        int price
+        int price,
+        boolean isLiked
 ) {
+
+    // 조회 쿼리의 프로젝션용 생성자
+    public ProductCardViewModel(Long productId, String imgUrl, String productName, int price) {
+        this(productId, imgUrl, productName, price, false);
+    }
+
+    public ProductCardViewModel withLiked(boolean isLiked) {
+        return isLiked == this.isLiked ? this : new ProductCardViewModel(productId, imgUrl, productName, price, isLiked);
+    }
 }
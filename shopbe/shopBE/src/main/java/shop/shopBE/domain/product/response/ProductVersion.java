@@ -0,0 +1,11 @@
+package shop.shopBE.domain.product.response;
+
+import java.time.LocalDateTime;
+
+// 상품 응답의 조건부 요청(ETag, Last-Modified) 처리에 사용하는 버전 정보
+public record ProductVersion(
+        Long productId,
+        long version,
+        LocalDateTime updatedAt
+) {
+}
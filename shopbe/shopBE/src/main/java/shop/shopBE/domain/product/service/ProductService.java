@@ -4,6 +4,7 @@ package shop.shopBE.domain.product.service;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -18,6 +19,7 @@ import shop.shopBE.domain.product.entity.Product;
 import shop.shopBE.domain.product.entity.enums.PersonCategory;
 import shop.shopBE.domain.product.entity.enums.ProductCategory;
 import shop.shopBE.domain.product.entity.enums.SeasonCategory;
+import shop.shopBE.domain.product.event.ProductChangedEvent;
 import shop.shopBE.domain.product.exception.ProductExceptionCode;
 import shop.shopBE.domain.product.repository.ProductRepository;
 import shop.shopBE.domain.product.request.*;
@@ -25,12 +27,18 @@ import shop.shopBE.domain.product.response.ProductCardViewModel;
 import shop.shopBE.domain.product.response.ProductInformsModelView;
 import shop.shopBE.domain.product.response.ProductInformsResp;
 import shop.shopBE.domain.product.response.ProductListViewModel;
+import shop.shopBE.domain.product.response.ProductVersion;
 import shop.shopBE.domain.productdetail.entity.ProductDetail;
 import shop.shopBE.domain.productdetail.request.UpdateProductDetails;
 import shop.shopBE.domain.productdetail.response.ProductDetails;
 import shop.shopBE.domain.productdetail.service.ProductDetailService;
 import shop.shopBE.domain.productimage.response.ImgInforms;
 import shop.shopBE.domain.productimage.service.ProductImageService;
+import shop.shopBE.domain.productsales.service.ProductSalesService;
+import shop.shopBE.domain.search.response.ParsedSearchQuery;
+import shop.shopBE.domain.search.service.ProductSearchService;
+import shop.shopBE.domain.search.service.SearchQueryParser;
+import shop.shopBE.domain.trending.service.TrendingService;
 import shop.shopBE.global.exception.custom.CustomException;
 
 import java.time.LocalDateTime;
@@ -45,6 +53,11 @@ public class ProductService {
     private final ProductDetailService productDetailService;
     private final ProductImageService productImageService;
     private final MemberService memberService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TrendingService trendingService;
+    private final ProductSalesService productSalesService;
+    private final ProductSearchService productSearchService;
+    private final SearchQueryParser searchQueryParser;
 
     public Product findById(Long productId) {
         return productRepository.findById(productId)
@@ -61,7 +74,13 @@ public class ProductService {
     // 조회시 상품카드를 조회하는 메서드
     public List<ProductCardViewModel> findProductCardViewsByCategorys(Pageable pageable, SeasonCategory seasonCategory, PersonCategory personCategory, ProductCategory productCategory, SortingOption sortingOption, String keyword) {
 
-        return getFilteredProductCardViewsByCategorys(pageable, seasonCategory, personCategory, productCategory, sortingOption, keyword);
+        return getFilteredProductCardViewsByCategorys(pageable, seasonCategory, personCategory, productCategory, sortingOption, keyword, null);
+    }
+
+    // 판매 기간을 지정한 조회 (판매량순일 때만 기간이 적용된다)
+    public List<ProductCardViewModel> findProductCardViewsByCategorys(Pageable pageable, SeasonCategory seasonCategory, PersonCategory personCategory, ProductCategory productCategory, SortingOption sortingOption, String keyword, SalesWindow window) {
+
+        return getFilteredProductCardViewsByCategorys(pageable, seasonCategory, personCategory, productCategory, sortingOption, keyword, window);
     }
 
 
@@ -81,6 +100,27 @@ public class ProductService {
     }
 
 
+    // 상품 상세조회 응답의 버전 정보를 조회한다. 상세 조회 전에 조건부 요청을 확인하는데 사용
+    public ProductVersion findProductVersion(Long productId) {
+        return productRepository.findProductVersionByProductId(productId)
+                .orElseThrow(() -> new CustomException(ProductExceptionCode.NOT_FOUND));
+    }
+
+    // 급상승 순위 버전 (급상승순 목록 ETag 생성용)
+    public long findTrendingRankingsVersion() {
+        return trendingService.getRankingsVersion();
+    }
+
+    // 판매 기간 내 집계가 마지막으로 바뀐 시각 (기간별 판매량순 목록 ETag 생성용)
+    public Optional<LocalDateTime> findLatestSalesUpdatedAt(SalesWindow window) {
+        return productSalesService.findLatestUpdatedAt(window);
+    }
+
+    // 상품 목록의 마지막 수정 시각을 조회한다. 어떤 상품이든 바뀌면 함께 바뀐다.
+    public Optional<LocalDateTime> findLatestUpdatedAt() {
+        return productRepository.findLatestUpdatedAt();
+    }
+
     // 판매자의 상품등록리스트를 가져온다.
     public List<ProductCardViewModel> findSalesListCardView(Pageable pageable, Long sellerId) {
 
@@ -103,8 +143,8 @@ public class ProductService {
 
 
 
-    public List<ProductListViewModel> getProductListViewModels(Long likesId) {
-        return productRepository.getProductListViewModels(likesId)
+    public List<ProductListViewModel> getProductListViewModels(Long likesId, Long cursor, int limit) {
+        return productRepository.getProductListViewModels(likesId, cursor, limit)
                 .orElseThrow(() -> new CustomException(LikesItemExceptionCode.LIKES_ITEM_EMPTY));
     }
 
@@ -136,6 +176,8 @@ public class ProductService {
         //product details 저장.
         productDetailService.saveProductDetails(savedProduct, addProductInforms.sizeAndQuantity());
 
+        eventPublisher.publishEvent(new ProductChangedEvent(savedProduct.getId()));
+
     }
 
     //상품 하나 제거 메서드. - 논리적 삭제.
@@ -145,6 +187,7 @@ public class ProductService {
         Product product = findProductByProductIdAndSellerId(productId, sellerId);
         // product의 isDeleted를 true로  바꿔준다.
         product.deleteProduct(true);
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
     }
 
     //여러개의 상품 제거 - 논리적 삭제.
@@ -154,6 +197,7 @@ public class ProductService {
         for (Long productId : productIds) {
             Product product  = findProductByProductIdAndSellerId(productId, sellerId);
             product.deleteProduct(true);
+            eventPublisher.publishEvent(new ProductChangedEvent(productId));
         }
     }
 
@@ -170,6 +214,7 @@ public class ProductService {
 
         // 위에서 오류를 안터트리고 정상적으로 수량 감소할경우 판매량을 증가시킴.
         product.plusSalesVolume(sizeStock);
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
     }
 
     // 상품정보 update로직
@@ -205,6 +250,8 @@ public class ProductService {
         //productImg 업데이트
         productImageService.updateMainImg(product, updateMainImg, updateProductReq.deletedMainImgInforms());
         productImageService.updateSideImgs(product, updateSideImgs, updateProductReq.deletedSideImgInforms());
+
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
     }
 
 
@@ -243,30 +290,61 @@ public class ProductService {
     }
 
 
-    private List<ProductCardViewModel> getFilteredProductCardViewsByCategorys(Pageable pageable, SeasonCategory seasonCategory, PersonCategory personCategory, ProductCategory productCategory, SortingOption sortingOption, String keyword) {
+    private List<ProductCardViewModel> getFilteredProductCardViewsByCategorys(Pageable pageable, SeasonCategory seasonCategory, PersonCategory personCategory, ProductCategory productCategory, SortingOption sortingOption, String keyword, SalesWindow window) {
+        // 검색어 중 카테고리를 나타내는 단어("겨울", "여성", "부츠")는 카테고리 필터로 바꾸고, 나머지 단어만 검색어로 사용한다.
+        if (keyword != null) {
+            ParsedSearchQuery parsedQuery = searchQueryParser.parse(keyword, seasonCategory, personCategory, productCategory);
+            seasonCategory = parsedQuery.seasonCategory();
+            personCategory = parsedQuery.personCategory();
+            productCategory = parsedQuery.productCategory();
+            keyword = parsedQuery.keyword();
+        }
+
+        // 남은 검색어가 있으면 검색 색인(초성, 자모 부분 일치)에서 상품 id를 먼저 찾는다.
+        Set<Long> matchedProductIds = null;
+        if (keyword != null) {
+            matchedProductIds = productSearchService.findMatchingProductIds(keyword).orElse(null);
+            if (matchedProductIds != null && matchedProductIds.isEmpty()) {
+                return List.of();
+            }
+        }
+
         // 낮은가격순 조회일경우
         if(sortingOption.equals(SortingOption.LOW_PRICE)){
             return productRepository
-                    .findProductCardViewsByCategorysOrderByPriceAsc(pageable, seasonCategory, personCategory, productCategory, keyword)
+                    .findProductCardViewsByCategorysOrderByPriceAsc(pageable, seasonCategory, personCategory, productCategory, keyword, matchedProductIds)
                     .orElseThrow(() -> new CustomException(ProductExceptionCode.PRODUCT_EMPTY));
         }
         // 신상품순 조회일 경우
         if(sortingOption.equals(SortingOption.NEW_PRODUCT)){
             return productRepository
-                    .findProductCardViewsByCategorysOrderByCreateAtDesc(pageable, seasonCategory, personCategory, productCategory, keyword)
+                    .findProductCardViewsByCategorysOrderByCreateAtDesc(pageable, seasonCategory, personCategory, productCategory, keyword, matchedProductIds)
                     .orElseThrow(() -> new CustomException(ProductExceptionCode.PRODUCT_EMPTY));
         }
 
+        // 기간별 판매량순 조회일경우 - 판매 집계 테이블에서 조회
+        if(sortingOption.equals(SortingOption.BEST_SELLERS) && window != null){
+            return productRepository
+                    .findProductCardViewsByCategorysOrderByWindowSalesDesc(pageable, seasonCategory, personCategory, productCategory, keyword, matchedProductIds, window)
+                    .orElseThrow(() -> new CustomException(ProductExceptionCode.PRODUCT_EMPTY));
+        }
         // 판매량순 조회일경우
         if(sortingOption.equals(SortingOption.BEST_SELLERS)){
             return productRepository
-                    .findProductCardViewsByCategorysOrderBySalesVolumesDesc(pageable, seasonCategory, personCategory, productCategory, keyword)
+                    .findProductCardViewsByCategorysOrderBySalesVolumesDesc(pageable, seasonCategory, personCategory, productCategory, keyword, matchedProductIds)
                     .orElseThrow(() -> new CustomException(ProductExceptionCode.PRODUCT_EMPTY));
         }
+        // 급상승순 조회일경우 - 미리 계산된 순위에서 반환. 검색어가 있거나 순위가 없으면 인기순으로 조회
+        if(sortingOption.equals(SortingOption.TRENDING) && keyword == null){
+            Optional<List<ProductCardViewModel>> trendingCardViews = trendingService.findPage(pageable, seasonCategory, personCategory, productCategory);
+            if (trendingCardViews.isPresent()) {
+                return trendingCardViews.get();
+            }
+        }
         // 인기순 조회일경우
-        if(sortingOption.equals(SortingOption.POPULAR)){
+        if(sortingOption.equals(SortingOption.POPULAR) || sortingOption.equals(SortingOption.TRENDING)){
             return productRepository
-                    .findProductCardViewsByCategorysOrderByLikeCountDesc(pageable, seasonCategory, personCategory, productCategory, keyword)
+                    .findProductCardViewsByCategorysOrderByLikeCountDesc(pageable, seasonCategory, personCategory, productCategory, keyword, matchedProductIds)
                     .orElseThrow(() -> new CustomException(ProductExceptionCode.PRODUCT_EMPTY));
         }
 
@@ -1,9 +1,20 @@
 package shop.shopBE.domain.productdetail.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import shop.shopBE.domain.productdetail.entity.ProductDetail;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface ProductDetailRepository extends JpaRepository<ProductDetail, Long>, ProductDetailRepositoryCustom {
+
+    // 결제 후 취소된 주문상품 수량만큼 사이즈별 재고를 되돌린다. (사이즈별 합계를 한 번에 더함)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProductDetail pd set pd.sizeStock = pd.sizeStock + " +
+            "(select sum(op.productCount) from OrderProduct op where op.id in :orderProductIds and op.productDetail.id = pd.id) " +
+            "where pd.id in (select op.productDetail.id from OrderProduct op where op.id in :orderProductIds)")
+    int restoreSizeStock(@Param("orderProductIds") Collection<Long> orderProductIds);
 }
@@ -3,6 +3,7 @@ package shop.shopBE.domain.productdetail.repository;
 import shop.shopBE.domain.productdetail.entity.ProductDetail;
 import shop.shopBE.domain.productdetail.response.ProductDetails;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,4 +11,5 @@ public interface ProductDetailRepositoryCustom {
     Optional<List<ProductDetails>> findProductDetailsByProductId(Long productId);
     Optional<Integer> findQuantityByProductIdAndSize(Long productId, int size);
     Optional<ProductDetail> findByProductIdAndSize(Long productId, int size);
+    List<ProductDetail> findAllByProductIds(Collection<Long> productIds);
 }
@@ -11,6 +11,7 @@ import shop.shopBE.domain.productdetail.entity.ProductDetail;
 import shop.shopBE.domain.productdetail.entity.QProductDetail;
 import shop.shopBE.domain.productdetail.response.ProductDetails;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -58,4 +59,13 @@ public class ProductDetailRepositoryCustomImpl implements ProductDetailRepositor
 
         return Optional.ofNullable(result);
     }
+
+    @Override
+    public List<ProductDetail> findAllByProductIds(Collection<Long> productIds) {
+        return queryFactory
+                .select(productDetail)
+                .from(productDetail)
+                .where(productDetail.product.id.in(productIds))
+                .fetch();
+    }
 }
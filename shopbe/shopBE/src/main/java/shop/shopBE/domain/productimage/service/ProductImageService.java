@@ -13,7 +13,7 @@ import shop.shopBE.domain.productimage.exception.ProductImageExceptionCode;
 import shop.shopBE.domain.productimage.repository.ProductImageRepository;
 import shop.shopBE.domain.productimage.response.ImgInforms;
 import shop.shopBE.global.exception.custom.CustomException;
-import shop.shopBE.global.utils.s3.S3Utils;
+import shop.shopBE.global.utils.storage.StorageUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -24,7 +24,7 @@ import java.util.Optional;
 @Service
 public class ProductImageService {
     private final ProductImageRepository productImageRepository;
-    private final S3Utils s3Utils;
+    private final StorageUtils storageUtils;
 
     public List<ImgInforms> findSideImgInformsByProductId(Long productId){
         List<ImgInforms> sideImgInforms =
@@ -65,7 +65,7 @@ public class ProductImageService {
         if(deleteImgInforms != null) {
 
             // s3에서 파일 제거
-            s3Utils.deleteFile(deleteImgInforms.imgUrl());
+            storageUtils.deleteFile(deleteImgInforms.imgUrl());
             // db에서 제거
             productImageRepository.deleteById(deleteImgInforms.imgId());
         }
@@ -84,7 +84,7 @@ public class ProductImageService {
 
         for (ImgInforms deleteImgInform : deleteImgInforms) {
             // s3에서 파일 제거
-            s3Utils.deleteFile(deleteImgInform.imgUrl());
+            storageUtils.deleteFile(deleteImgInform.imgUrl());
             // db에서 제거
             productImageRepository.deleteById(deleteImgInform.imgId());
         }
@@ -107,7 +107,7 @@ public class ProductImageService {
         if (sideImgFiles != null && !sideImgFiles.isEmpty()) {
             result = sideImgFiles.stream().map(file -> {
                 String originalFilename = file.getOriginalFilename();
-                String savedFilename = s3Utils.uploadFile(file);
+                String savedFilename = storageUtils.uploadFile(file);
                 return new FileData(originalFilename, savedFilename);
             }).toList();
         }
@@ -118,7 +118,7 @@ public class ProductImageService {
     // 메인이미지를 s3에 업로드후 filedata반환.
     private FileData uploadMainImg(MultipartFile mainImgFile) {
         String originalFileName = mainImgFile.getOriginalFilename();
-        String savedFileName = s3Utils.uploadFile(mainImgFile);
+        String savedFileName = storageUtils.uploadFile(mainImgFile);
         return new FileData(originalFileName, savedFileName);
     }
 
@@ -0,0 +1,40 @@
+package shop.shopBE.domain.productsales.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 상품별 일 단위 판매 수량 집계 (주문 일자 기준)
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_product_sales_daily", columnNames = {"productId", "salesDate"})
+        },
+        indexes = {
+                @Index(name = "idx_product_sales_daily_date", columnList = "salesDate, productId")
+        }
+)
+public class ProductSalesDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long productId;
+
+    private LocalDate salesDate;
+
+    // 결제 완료된 판매 수량. 주문이 취소되면 감소한다.
+    private long quantity;
+
+    private LocalDateTime updatedAt;
+}
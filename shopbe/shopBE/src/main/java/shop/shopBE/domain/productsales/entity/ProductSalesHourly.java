@@ -0,0 +1,40 @@
+package shop.shopBE.domain.productsales.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 상품별 시간 단위 판매 수량 집계 (주문 시각 기준)
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_product_sales_hourly", columnNames = {"productId", "bucketStart"})
+        },
+        indexes = {
+                @Index(name = "idx_product_sales_hourly_bucket", columnList = "bucketStart, productId")
+        }
+)
+public class ProductSalesHourly {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long productId;
+
+    // 집계 구간 시작 시각 (정각)
+    private LocalDateTime bucketStart;
+
+    // 결제 완료된 판매 수량. 주문이 취소되면 감소한다.
+    private long quantity;
+
+    private LocalDateTime updatedAt;
+}
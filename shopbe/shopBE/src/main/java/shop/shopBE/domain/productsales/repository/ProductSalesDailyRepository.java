@@ -0,0 +1,36 @@
+package shop.shopBE.domain.productsales.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import shop.shopBE.domain.productsales.entity.ProductSalesDaily;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface ProductSalesDailyRepository extends JpaRepository<ProductSalesDaily, Long> {
+
+    // 해당 일자의 행이 없으면 추가하고, 있으면 수량만 더한다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "product_sales_daily"))
+    @Query(value = "insert into product_sales_daily (product_id, sales_date, quantity, updated_at) " +
+            "values (:productId, :salesDate, :delta, :updatedAt) " +
+            "on duplicate key update quantity = quantity + :delta, updated_at = :updatedAt", nativeQuery = true)
+    int upsertQuantity(@Param("productId") Long productId,
+                       @Param("salesDate") LocalDate salesDate,
+                       @Param("delta") long delta,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 기간 내 집계가 마지막으로 바뀐 시각 (판매량순 목록 조건부 요청 확인용)
+    @Query("select max(s.updatedAt) from ProductSalesDaily s where s.salesDate >= :from")
+    Optional<LocalDateTime> findLatestUpdatedAtSince(@Param("from") LocalDate from);
+
+    @Modifying
+    @Query("delete from ProductSalesDaily s where s.salesDate < :before")
+    int deleteAllBySalesDateBefore(@Param("before") LocalDate before);
+}
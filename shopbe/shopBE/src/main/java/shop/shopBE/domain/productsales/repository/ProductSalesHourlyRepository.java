@@ -0,0 +1,35 @@
+package shop.shopBE.domain.productsales.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import shop.shopBE.domain.productsales.entity.ProductSalesHourly;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface ProductSalesHourlyRepository extends JpaRepository<ProductSalesHourly, Long> {
+
+    // 해당 구간의 행이 없으면 추가하고, 있으면 수량만 더한다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "product_sales_hourly"))
+    @Query(value = "insert into product_sales_hourly (product_id, bucket_start, quantity, updated_at) " +
+            "values (:productId, :bucketStart, :delta, :updatedAt) " +
+            "on duplicate key update quantity = quantity + :delta, updated_at = :updatedAt", nativeQuery = true)
+    int upsertQuantity(@Param("productId") Long productId,
+                       @Param("bucketStart") LocalDateTime bucketStart,
+                       @Param("delta") long delta,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 기간 내 집계가 마지막으로 바뀐 시각 (판매량순 목록 조건부 요청 확인용)
+    @Query("select max(s.updatedAt) from ProductSalesHourly s where s.bucketStart >= :from")
+    Optional<LocalDateTime> findLatestUpdatedAtSince(@Param("from") LocalDateTime from);
+
+    @Modifying
+    @Query("delete from ProductSalesHourly s where s.bucketStart < :before")
+    int deleteAllByBucketStartBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,82 @@
+package shop.shopBE.domain.productsales.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shop.shopBE.domain.orderproduct.entity.OrderProduct;
+import shop.shopBE.domain.orderproduct.entity.enums.DeliveryStatus;
+import shop.shopBE.domain.product.request.SalesWindow;
+import shop.shopBE.domain.productsales.repository.ProductSalesDailyRepository;
+import shop.shopBE.domain.productsales.repository.ProductSalesHourlyRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+// 상품별 시간/일 단위 판매 수량 집계
+// 주문상품이 결제 완료 상태가 되면 수량을 더하고, 결제 완료 상태에서 벗어나면(취소) 뺀다.
+// 집계 구간은 주문 시각을 기준으로 하므로 취소되면 원래 주문한 구간에서 빠진다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductSalesService {
+
+    private final ProductSalesHourlyRepository productSalesHourlyRepository;
+    private final ProductSalesDailyRepository productSalesDailyRepository;
+
+    @Value("${sales-rollup.hourly-retention-hours:48}")
+    private long hourlyRetentionHours;
+
+    @Value("${sales-rollup.daily-retention-days:400}")
+    private long dailyRetentionDays;
+
+    // 주문상품의 상태 변경을 집계에 반영한다. 주문 생성 시에는 before가 null
+    // 상태 변경과 같은 트랜잭션에서 호출해야 한다.
+    @Transactional
+    public void recordStatusChange(OrderProduct orderProduct, DeliveryStatus before, DeliveryStatus after) {
+        long delta = paidQuantity(orderProduct, after) - paidQuantity(orderProduct, before);
+        if (delta == 0) {
+            return;
+        }
+
+        LocalDateTime orderedAt = Optional.ofNullable(orderProduct.getOrderHistory().getCreatedAt())
+                .orElseGet(LocalDateTime::now);
+        Long productId = orderProduct.getProductDetail().getProduct().getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        productSalesHourlyRepository.upsertQuantity(productId, orderedAt.truncatedTo(ChronoUnit.HOURS), delta, now);
+        productSalesDailyRepository.upsertQuantity(productId, orderedAt.toLocalDate(), delta, now);
+    }
+
+    // 조회 기간 내 집계가 마지막으로 바뀐 시각
+    public Optional<LocalDateTime> findLatestUpdatedAt(SalesWindow window) {
+        LocalDateTime now = LocalDateTime.now();
+        return window.isHourly()
+                ? productSalesHourlyRepository.findLatestUpdatedAtSince(window.startHour(now))
+                : productSalesDailyRepository.findLatestUpdatedAtSince(window.startDate(now.toLocalDate()));
+    }
+
+    // 조회에 쓰이지 않는 오래된 집계 삭제
+    @Transactional
+    @Scheduled(cron = "${sales-rollup.cleanup-cron:0 10 * * * *}")
+    public void deleteExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int hourly = productSalesHourlyRepository.deleteAllByBucketStartBefore(
+                now.truncatedTo(ChronoUnit.HOURS).minusHours(hourlyRetentionHours));
+        int daily = productSalesDailyRepository.deleteAllBySalesDateBefore(
+                now.toLocalDate().minusDays(dailyRetentionDays));
+
+        if (hourly > 0 || daily > 0) {
+            log.info("오래된 판매 집계 삭제 - 시간 단위 {}건, 일 단위 {}건", hourly, daily);
+        }
+    }
+
+    private long paidQuantity(OrderProduct orderProduct, DeliveryStatus status) {
+        return status != null && status.isPaid() ? orderProduct.getProductCount() : 0;
+    }
+}
@@ -0,0 +1,47 @@
+package shop.shopBE.domain.search.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import shop.shopBE.domain.search.response.SearchIndexProduct;
+
+import java.util.Collection;
+import java.util.List;
+
+import static shop.shopBE.domain.product.entity.QProduct.product;
+
+// 검색 색인용 상품 조회
+@Repository
+@RequiredArgsConstructor
+public class SearchIndexQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    // 전체 색인 생성 시 기본키 순서로 나누어 읽는다.
+    public List<SearchIndexProduct> findProductsAfter(Long lastId, int limit) {
+        return queryFactory
+                .select(Projections.constructor(SearchIndexProduct.class,
+                        product.id,
+                        product.productName,
+                        product.isDeleted
+                ))
+                .from(product)
+                .where(product.id.gt(lastId))
+                .orderBy(product.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public List<SearchIndexProduct> findProducts(Collection<Long> productIds) {
+        return queryFactory
+                .select(Projections.constructor(SearchIndexProduct.class,
+                        product.id,
+                        product.productName,
+                        product.isDeleted
+                ))
+                .from(product)
+                .where(product.id.in(productIds))
+                .fetch();
+    }
+}
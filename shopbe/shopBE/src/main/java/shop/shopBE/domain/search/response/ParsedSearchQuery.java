@@ -0,0 +1,12 @@
+package shop.shopBE.domain.search.response;
+
+import shop.shopBE.domain.product.entity.enums.PersonCategory;
+import shop.shopBE.domain.product.entity.enums.ProductCategory;
+import shop.shopBE.domain.product.entity.enums.SeasonCategory;
+
+// 검색어 해석 결과. 카테고리로 인식된 단어는 필터로, 나머지 단어는 keyword로 남는다. (남은 단어가 없으면 keyword는 null)
+public record ParsedSearchQuery(SeasonCategory seasonCategory,
+                                PersonCategory personCategory,
+                                ProductCategory productCategory,
+                                String keyword) {
+}
@@ -0,0 +1,7 @@
+package shop.shopBE.domain.search.response;
+
+// 검색 색인에 필요한 상품 정보
+public record SearchIndexProduct(Long productId,
+                                 String productName,
+                                 boolean isDeleted) {
+}
@@ -0,0 +1,121 @@
+package shop.shopBE.domain.search.service;
+
+import shop.shopBE.global.utils.hangul.HangulUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 상품명 부분 일치 검색 색인
+// 공백을 제거한 상품명의 각 글자 위치에서 시작하는 부분 문자열을 자모로 풀어쓴 키와 초성 키로 정렬된 집합에 넣어 둔다.
+// 검색어도 같은 방식으로 변환한 뒤 접두어 범위만 읽으므로, 전체 상품을 훑지 않고 LIKE '%검색어%'와 같은 결과를 얻는다.
+//  - 초성 검색어("ㄴㅇㅋ")는 초성 키에서 찾는다.
+//  - 그 외 검색어는 자모 키에서 찾는다. 마지막 글자가 입력 중이어도("나잌") 자모 단위 접두어로 일치한다.
+// 조회는 잠금 없이 처리하고, 변경은 하나의 잠금 안에서 처리한다.
+public class ProductSearchIndex {
+
+    // 키 뒤에 상품 id를 붙일 때 쓰는 구분자 (가장 작은 문자라서 같은 키끼리 모인다)
+    private static final char SEPARATOR = '\u0000';
+    private static final char RANGE_END = '\uffff';
+
+    // 키 하나의 최대 글자 수 (자모 기준). 검색어도 이 길이까지만 비교한다.
+    private static final int MAX_KEY_LENGTH = 60;
+
+    private record Keys(Set<String> jamoKeys, Set<String> choseongKeys) {
+    }
+
+    private final ConcurrentSkipListSet<String> jamoIndex = new ConcurrentSkipListSet<>();
+    private final ConcurrentSkipListSet<String> choseongIndex = new ConcurrentSkipListSet<>();
+    private final Map<Long, String> names = new HashMap<>(); // 변경 잠금 안에서만 접근
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // 검색어와 일치하는 상품 id. 최대 limit개까지만 반환한다.
+    public Set<Long> search(String keyword, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return Set.of();
+        }
+
+        boolean choseong = HangulUtils.isChoseongOnly(query);
+        ConcurrentSkipListSet<String> index = choseong ? choseongIndex : jamoIndex;
+        String prefix = truncate(choseong ? query : HangulUtils.toJamo(query));
+
+        Set<Long> productIds = new LinkedHashSet<>();
+        for (String key : index.subSet(prefix, true, prefix + RANGE_END, false)) {
+            productIds.add(Long.valueOf(key.substring(key.lastIndexOf(SEPARATOR) + 1)));
+            if (productIds.size() >= limit) {
+                break;
+            }
+        }
+        return productIds;
+    }
+
+    public void put(Long productId, String productName) {
+        writeLock.lock();
+        try {
+            String old = names.put(productId, productName);
+            if (productName.equals(old)) {
+                return;
+            }
+            if (old != null) {
+                removeKeys(productId, keys(old));
+            }
+
+            Keys keys = keys(productName);
+            keys.jamoKeys().forEach(key -> jamoIndex.add(key + SEPARATOR + productId));
+            keys.choseongKeys().forEach(key -> choseongIndex.add(key + SEPARATOR + productId));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        writeLock.lock();
+        try {
+            String old = names.remove(productId);
+            if (old != null) {
+                removeKeys(productId, keys(old));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        writeLock.lock();
+        try {
+            return names.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void removeKeys(Long productId, Keys keys) {
+        keys.jamoKeys().forEach(key -> jamoIndex.remove(key + SEPARATOR + productId));
+        keys.choseongKeys().forEach(key -> choseongIndex.remove(key + SEPARATOR + productId));
+    }
+
+    private Keys keys(String productName) {
+        String name = normalize(productName);
+        Set<String> jamoKeys = new HashSet<>();
+        Set<String> choseongKeys = new HashSet<>();
+        for (int i = 0; i < name.length(); i++) {
+            String suffix = name.substring(i);
+            jamoKeys.add(truncate(HangulUtils.toJamo(suffix)));
+            choseongKeys.add(truncate(HangulUtils.toChoseong(suffix)));
+        }
+        return new Keys(jamoKeys, choseongKeys);
+    }
+
+    private static String truncate(String key) {
+        return key.length() <= MAX_KEY_LENGTH ? key : key.substring(0, MAX_KEY_LENGTH);
+    }
+
+    // 공백 제거, 소문자 변환
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+}
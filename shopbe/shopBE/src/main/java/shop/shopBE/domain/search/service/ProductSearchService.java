@@ -0,0 +1,111 @@
+package shop.shopBE.domain.search.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shop.shopBE.domain.product.event.ProductChangedEvent;
+import shop.shopBE.domain.search.repository.SearchIndexQueryRepository;
+import shop.shopBE.domain.search.response.SearchIndexProduct;
+import shop.shopBE.global.utils.hangul.HangulUtils;
+import shop.shopBE.global.utils.index.IncrementalIndexer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 상품명 검색 (초성, 자모 단위 부분 일치)
+// 시작 시 전체 상품으로 색인을 만들고, 이후에는 상품 추가/수정/삭제 이벤트로 바뀐 상품만 다시 읽어 반영한다.
+@Service
+public class ProductSearchService {
+
+    private final SearchIndexQueryRepository searchIndexQueryRepository;
+    private final ProductSearchIndex index = new ProductSearchIndex();
+    private final Indexer indexer;
+    private final int maxResults;
+
+    public ProductSearchService(SearchIndexQueryRepository searchIndexQueryRepository,
+                                @Value("${search.index.max-results:1000}") int maxResults,
+                                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.searchIndexQueryRepository = searchIndexQueryRepository;
+        this.maxResults = maxResults;
+        this.indexer = new Indexer(virtualThreads);
+    }
+
+    // 검색어와 일치하는 상품 id. 색인이 아직 만들어지지 않았거나 일치하는 상품이 너무 많으면 empty (이름 LIKE 검색으로 대체)
+    // 일부만 잘라서 넘기면 정렬/페이징 전에 결과가 빠지므로, 상한을 넘으면 색인 결과를 쓰지 않는다.
+    // 초성 검색은 LIKE로 대체할 수 없어서 상한까지만 사용한다.
+    public Optional<Set<Long>> findMatchingProductIds(String keyword) {
+        if (!indexer.isLoaded()) {
+            return Optional.empty();
+        }
+
+        Set<Long> productIds = index.search(keyword, maxResults + 1);
+        if (productIds.size() <= maxResults) {
+            return Optional.of(productIds);
+        }
+        if (HangulUtils.isChoseongOnly(ProductSearchIndex.normalize(keyword))) {
+            return Optional.of(productIds.stream().limit(maxResults).collect(Collectors.toSet()));
+        }
+        return Optional.empty();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        indexer.start();
+    }
+
+    // 찜 수만 바뀐 경우에는 상품명이 그대로이므로 다시 읽지 않는다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.likeCountOnly()) {
+            return;
+        }
+        indexer.markChanged(event.productId());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexer.shutdown();
+    }
+
+    private class Indexer extends IncrementalIndexer<SearchIndexProduct> {
+
+        Indexer(boolean virtualThreads) {
+            super("search-indexer", "상품 검색", virtualThreads);
+        }
+
+        @Override
+        protected List<SearchIndexProduct> findAfter(long lastId, int limit) {
+            return searchIndexQueryRepository.findProductsAfter(lastId, limit);
+        }
+
+        @Override
+        protected List<SearchIndexProduct> findByIds(List<Long> ids) {
+            return searchIndexQueryRepository.findProducts(ids);
+        }
+
+        @Override
+        protected Long idOf(SearchIndexProduct product) {
+            return product.productId();
+        }
+
+        @Override
+        protected void apply(SearchIndexProduct product) {
+            if (product.isDeleted() || product.productName() == null) {
+                index.remove(product.productId());
+                return;
+            }
+            index.put(product.productId(), product.productName());
+        }
+
+        @Override
+        protected void remove(Long productId) {
+            index.remove(productId);
+        }
+    }
+}
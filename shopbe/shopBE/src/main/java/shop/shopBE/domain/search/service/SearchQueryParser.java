@@ -0,0 +1,172 @@
+package shop.shopBE.domain.search.service;
+
+import org.springframework.stereotype.Component;
+import shop.shopBE.domain.product.entity.enums.PersonCategory;
+import shop.shopBE.domain.product.entity.enums.ProductCategory;
+import shop.shopBE.domain.product.entity.enums.SeasonCategory;
+import shop.shopBE.domain.search.response.ParsedSearchQuery;
+
+import java.util.*;
+
+// 검색어에서 카테고리를 나타내는 단어를 찾아 카테고리 필터로 바꾼다. ("겨울 부츠" -> 시즌=WINTER, 상품분류=BOOTS)
+// 각 카테고리의 description과 자주 쓰이는 동의어를 인식하고, 붙여 쓴 단어("여성샌들")는 두 단어로 나누어 확인한다.
+// 요청에 이미 지정된 카테고리와 다르거나 같은 분류의 단어가 여러 번 나오면 필터로 바꾸지 않고 검색어로 남긴다.
+@Component
+public class SearchQueryParser {
+
+    // 여러 단어로 된 카테고리명("옥스퍼드 슈즈")을 찾기 위해 최대 몇 단어까지 이어 붙여 볼지
+    private static final int MAX_PHRASE_WORDS = 3;
+
+    private static final Map<SeasonCategory, List<String>> SEASON_SYNONYMS = Map.of(
+            SeasonCategory.WINTER, List.of("겨울용", "윈터", "winter"),
+            SeasonCategory.SUMMER, List.of("여름용", "썸머", "summer"),
+            SeasonCategory.ALL_SEASON, List.of("사계절", "사계절용")
+    );
+
+    private static final Map<PersonCategory, List<String>> PERSON_SYNONYMS = Map.of(
+            PersonCategory.MEN, List.of("남자", "남성용", "남자용", "맨즈", "men", "mens"),
+            PersonCategory.WOMEN, List.of("여자", "여성용", "여자용", "우먼", "women", "womens"),
+            PersonCategory.CHILDREN, List.of("아동용", "어린이", "키즈", "kids"),
+            PersonCategory.ALL_PERSON, List.of("남녀공용", "공용", "unisex")
+    );
+
+    private static final Map<ProductCategory, List<String>> PRODUCT_SYNONYMS = Map.ofEntries(
+            Map.entry(ProductCategory.SLIPPERS, List.of("쪼리")),
+            Map.entry(ProductCategory.SANDALS, List.of("샌달")),
+            Map.entry(ProductCategory.SNEAKERS, List.of("스니커", "sneakers")),
+            Map.entry(ProductCategory.RUNNING_SHOES, List.of("러닝화", "런닝화")),
+            Map.entry(ProductCategory.HIGH_HEELS, List.of("힐")),
+            Map.entry(ProductCategory.FLAT_SHOES, List.of("플랫")),
+            Map.entry(ProductCategory.WALKERS, List.of("워커부츠")),
+            Map.entry(ProductCategory.OXFORD_SHOES, List.of("옥스퍼드")),
+            Map.entry(ProductCategory.WINTER_BOOTS, List.of("방한부츠")),
+            Map.entry(ProductCategory.RAIN_BOOTS, List.of("장화")),
+            Map.entry(ProductCategory.AQUA_SHOES, List.of("아쿠아")),
+            Map.entry(ProductCategory.DRESS_SHOES, List.of("구두"))
+    );
+
+    // 공백을 제거한 단어 -> 카테고리 (SeasonCategory, PersonCategory, ProductCategory 중 하나)
+    private final Map<String, Enum<?>> dictionary = new HashMap<>();
+
+    public SearchQueryParser() {
+        for (SeasonCategory season : SeasonCategory.values()) {
+            register(season.getDescription(), season);
+            SEASON_SYNONYMS.getOrDefault(season, List.of()).forEach(word -> register(word, season));
+        }
+        for (PersonCategory person : PersonCategory.values()) {
+            register(person.getDescription(), person);
+            PERSON_SYNONYMS.getOrDefault(person, List.of()).forEach(word -> register(word, person));
+        }
+        for (ProductCategory product : ProductCategory.values()) {
+            register(product.getDescription(), product);
+            PRODUCT_SYNONYMS.getOrDefault(product, List.of()).forEach(word -> register(word, product));
+        }
+    }
+
+    public ParsedSearchQuery parse(String query,
+                                   SeasonCategory seasonCategory,
+                                   PersonCategory personCategory,
+                                   ProductCategory productCategory) {
+        if (query == null || query.isBlank()) {
+            return new ParsedSearchQuery(seasonCategory, personCategory, productCategory, query);
+        }
+
+        Filters filters = new Filters(seasonCategory, personCategory, productCategory);
+        String[] words = query.strip().split("\\s+");
+        List<String> remaining = new ArrayList<>();
+
+        for (int i = 0; i < words.length; ) {
+            int matchedWords = matchPhrase(words, i, filters);
+            if (matchedWords > 0) {
+                i += matchedWords;
+                continue;
+            }
+            if (!matchCompound(words[i], filters)) {
+                remaining.add(words[i]);
+            }
+            i++;
+        }
+
+        String keyword = remaining.isEmpty() ? null : String.join(" ", remaining);
+        return new ParsedSearchQuery(filters.season, filters.person, filters.product, keyword);
+    }
+
+    // i번째 단어부터 가장 긴 카테고리명을 찾아 적용하고, 사용한 단어 수를 반환한다.
+    private int matchPhrase(String[] words, int start, Filters filters) {
+        for (int length = Math.min(MAX_PHRASE_WORDS, words.length - start); length >= 1; length--) {
+            StringBuilder phrase = new StringBuilder();
+            for (int j = start; j < start + length; j++) {
+                phrase.append(words[j]);
+            }
+            Enum<?> category = dictionary.get(normalize(phrase.toString()));
+            if (category != null && filters.apply(category)) {
+                return length;
+            }
+        }
+        return 0;
+    }
+
+    // 붙여 쓴 두 단어가 모두 카테고리명이면 둘 다 적용한다. ("겨울부츠", "여성샌들")
+    private boolean matchCompound(String word, Filters filters) {
+        String normalized = normalize(word);
+        for (int split = 1; split < normalized.length(); split++) {
+            Enum<?> first = dictionary.get(normalized.substring(0, split));
+            Enum<?> second = dictionary.get(normalized.substring(split));
+            if (first != null && second != null && first.getClass() != second.getClass()
+                    && filters.canApply(first) && filters.canApply(second)) {
+                filters.apply(first);
+                filters.apply(second);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void register(String word, Enum<?> category) {
+        dictionary.put(normalize(word), category);
+    }
+
+    private static String normalize(String word) {
+        return word.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    // 분류별로 하나의 값만 가질 수 있는 필터. 이미 다른 값이 있으면 적용하지 않는다.
+    private static final class Filters {
+        private SeasonCategory season;
+        private PersonCategory person;
+        private ProductCategory product;
+
+        private Filters(SeasonCategory season, PersonCategory person, ProductCategory product) {
+            this.season = season;
+            this.person = person;
+            this.product = product;
+        }
+
+        private boolean canApply(Enum<?> category) {
+            if (category instanceof SeasonCategory value) {
+                return season == null || season == value;
+            }
+            if (category instanceof PersonCategory value) {
+                return person == null || person == value;
+            }
+            if (category instanceof ProductCategory value) {
+                return product == null || product == value;
+            }
+            return false;
+        }
+
+        private boolean apply(Enum<?> category) {
+            if (!canApply(category)) {
+                return false;
+            }
+            if (category instanceof SeasonCategory value) {
+                season = value;
+            } else if (category instanceof PersonCategory value) {
+                person = value;
+            } else if (category instanceof ProductCategory value) {
+                product = value;
+            }
+            return true;
+        }
+    }
+}
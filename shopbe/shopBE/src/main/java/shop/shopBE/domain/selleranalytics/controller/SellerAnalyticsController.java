@@ -0,0 +1,83 @@
+package shop.shopBE.domain.selleranalytics.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import shop.shopBE.domain.selleranalytics.response.SellerProductDailyStatsResponse;
+import shop.shopBE.domain.selleranalytics.response.SellerSalesSummaryResponse;
+import shop.shopBE.domain.selleranalytics.response.SellerSizeStatsResponse;
+import shop.shopBE.domain.selleranalytics.service.SellerAnalyticsBackfillJob;
+import shop.shopBE.domain.selleranalytics.service.SellerAnalyticsService;
+import shop.shopBE.global.config.security.mapper.token.AuthToken;
+import shop.shopBE.global.response.ResponseFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "판매자 통계", description = "판매자 판매 통계 관련 API")
+public class SellerAnalyticsController {
+
+    // 기간을 지정하지 않으면 오늘까지 최근 30일
+    private static final int DEFAULT_PERIOD_DAYS = 30;
+
+    private final SellerAnalyticsService sellerAnalyticsService;
+    private final SellerAnalyticsBackfillJob sellerAnalyticsBackfillJob;
+
+    @GetMapping("/seller/analytics/summary")
+    @Operation(summary = "판매 요약 조회", description = "기간 내 주문 수량, 판매 수량, 매출, 취소율을 조회한다. (판매자만 조회 가능)")
+    @PreAuthorize("hasRole('SELLER')")
+    public ResponseEntity<ResponseFormat<SellerSalesSummaryResponse>> getSummary(@RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                                 @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                                 @AuthenticationPrincipal AuthToken authToken) {
+        LocalDate end = endOrToday(to);
+        SellerSalesSummaryResponse summary = sellerAnalyticsService.findSummary(authToken.getId(), startOrDefault(from, end), end);
+        return ResponseEntity.ok().body(ResponseFormat.of("판매 요약 조회 성공", summary));
+    }
+
+    @GetMapping("/seller/analytics/products")
+    @Operation(summary = "상품별 일 판매 통계 조회", description = "기간 내 상품별, 일자별 판매 수량과 매출을 조회한다. (판매자만 조회 가능)")
+    @PreAuthorize("hasRole('SELLER')")
+    public ResponseEntity<ResponseFormat<List<SellerProductDailyStatsResponse>>> getProductDailyStats(@RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                                                      @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                                                      @AuthenticationPrincipal AuthToken authToken) {
+        LocalDate end = endOrToday(to);
+        List<SellerProductDailyStatsResponse> stats = sellerAnalyticsService.findProductDailyStats(authToken.getId(), startOrDefault(from, end), end);
+        return ResponseEntity.ok().body(ResponseFormat.of("상품별 판매 통계 조회 성공", stats));
+    }
+
+    @GetMapping("/seller/analytics/sizes")
+    @Operation(summary = "사이즈별 판매 순위 조회", description = "기간 내 가장 많이 팔린 사이즈를 조회한다. (판매자만 조회 가능)")
+    @PreAuthorize("hasRole('SELLER')")
+    public ResponseEntity<ResponseFormat<List<SellerSizeStatsResponse>>> getTopSizes(@RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                                     @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                                     @RequestParam(name = "limit", defaultValue = "10") int limit,
+                                                                                     @AuthenticationPrincipal AuthToken authToken) {
+        LocalDate end = endOrToday(to);
+        List<SellerSizeStatsResponse> sizes = sellerAnalyticsService.findTopSizes(authToken.getId(), startOrDefault(from, end), end, limit);
+        return ResponseEntity.ok().body(ResponseFormat.of("사이즈별 판매 순위 조회 성공", sizes));
+    }
+
+    @PostMapping("/seller/analytics/backfill")
+    @Operation(summary = "판매자 통계 재집계", description = "기간 내 주문 기록으로 판매자 통계를 다시 만든다. 백그라운드에서 실행된다. (관리자만 가능)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseFormat<Void>> backfill(@RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                         @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        sellerAnalyticsBackfillJob.start(from, endOrToday(to));
+        return ResponseEntity.accepted().body(ResponseFormat.of("판매자 통계 재집계를 시작했습니다."));
+    }
+
+    private LocalDate endOrToday(LocalDate to) {
+        return to == null ? LocalDate.now() : to;
+    }
+
+    private LocalDate startOrDefault(LocalDate from, LocalDate to) {
+        return from == null ? to.minusDays(DEFAULT_PERIOD_DAYS - 1) : from;
+    }
+}
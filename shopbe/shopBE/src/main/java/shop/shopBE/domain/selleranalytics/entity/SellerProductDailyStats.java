@@ -0,0 +1,52 @@
+package shop.shopBE.domain.selleranalytics.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 판매자의 상품별 일 단위 주문 집계 (주문 일자 기준)
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_seller_product_daily_stats", columnNames = {"sellerId", "productId", "statsDate"})
+        },
+        indexes = {
+                @Index(name = "idx_seller_product_daily_stats_seller_date", columnList = "sellerId, statsDate"),
+                @Index(name = "idx_seller_product_daily_stats_date", columnList = "statsDate")
+        }
+)
+public class SellerProductDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long sellerId;
+
+    private Long productId;
+
+    private LocalDate statsDate;
+
+    // 주문된 수량 (결제 여부와 관계없이 주문 생성 시 증가)
+    private long orderedUnits;
+
+    // 결제 완료 상태인 수량
+    private long paidUnits;
+
+    // 결제 완료 상태인 주문상품의 금액 합계
+    private long paidRevenue;
+
+    // 취소된 수량
+    private long cancelledUnits;
+
+    private LocalDateTime updatedAt;
+}
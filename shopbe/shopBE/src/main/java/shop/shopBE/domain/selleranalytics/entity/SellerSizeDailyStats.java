@@ -0,0 +1,45 @@
+package shop.shopBE.domain.selleranalytics.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 판매자의 상품 사이즈별 일 단위 판매 수량 (주문 일자 기준)
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_seller_size_daily_stats", columnNames = {"sellerId", "productId", "shoesSize", "statsDate"})
+        },
+        indexes = {
+                @Index(name = "idx_seller_size_daily_stats_seller_date", columnList = "sellerId, statsDate"),
+                @Index(name = "idx_seller_size_daily_stats_date", columnList = "statsDate")
+        }
+)
+public class SellerSizeDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long sellerId;
+
+    private Long productId;
+
+    private int shoesSize;
+
+    private LocalDate statsDate;
+
+    // 결제 완료 상태인 수량
+    private long paidUnits;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,17 @@
+package shop.shopBE.domain.selleranalytics.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import shop.shopBE.global.exception.code.ExceptionCode;
+
+@Getter
+@AllArgsConstructor
+public enum SellerAnalyticsExceptionCode implements ExceptionCode {
+
+    INVALID_PERIOD(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다."),
+    BACKFILL_ALREADY_RUNNING(HttpStatus.CONFLICT, "판매 통계 재집계가 이미 진행 중입니다."),;
+
+    private final HttpStatus httpStatus;
+    private final String message;
+}
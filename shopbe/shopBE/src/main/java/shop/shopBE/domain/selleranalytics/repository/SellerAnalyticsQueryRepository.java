@@ -0,0 +1,87 @@
+package shop.shopBE.domain.selleranalytics.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import shop.shopBE.domain.selleranalytics.response.SellerProductDailyStatsResponse;
+import shop.shopBE.domain.selleranalytics.response.SellerSalesSummaryResponse;
+import shop.shopBE.domain.selleranalytics.response.SellerSizeStatsResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static shop.shopBE.domain.product.entity.QProduct.product;
+import static shop.shopBE.domain.selleranalytics.entity.QSellerProductDailyStats.sellerProductDailyStats;
+import static shop.shopBE.domain.selleranalytics.entity.QSellerSizeDailyStats.sellerSizeDailyStats;
+
+// 판매자 통계 조회. 모두 (판매자, 일자) 인덱스 범위의 집계 행만 읽으므로 주문량과 관계없이 비용이 일정하다.
+@Repository
+@RequiredArgsConstructor
+public class SellerAnalyticsQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public List<SellerProductDailyStatsResponse> findProductDailyStats(Long sellerId, LocalDate from, LocalDate to) {
+        return queryFactory
+                .select(Projections.constructor(SellerProductDailyStatsResponse.class,
+                        sellerProductDailyStats.productId,
+                        product.productName,
+                        sellerProductDailyStats.statsDate,
+                        sellerProductDailyStats.orderedUnits,
+                        sellerProductDailyStats.paidUnits,
+                        sellerProductDailyStats.paidRevenue,
+                        sellerProductDailyStats.cancelledUnits
+                ))
+                .from(sellerProductDailyStats)
+                .join(product)
+                .on(product.id.eq(sellerProductDailyStats.productId))
+                .where(sellerProductDailyStats.sellerId.eq(sellerId),
+                        sellerProductDailyStats.statsDate.between(from, to))
+                .orderBy(sellerProductDailyStats.statsDate.asc(), sellerProductDailyStats.productId.asc())
+                .fetch();
+    }
+
+    public List<SellerSizeStatsResponse> findTopSizes(Long sellerId, LocalDate from, LocalDate to, int limit) {
+        NumberExpression<Long> paidUnits = sellerSizeDailyStats.paidUnits.sum();
+        return queryFactory
+                .select(Projections.constructor(SellerSizeStatsResponse.class,
+                        sellerSizeDailyStats.shoesSize,
+                        paidUnits
+                ))
+                .from(sellerSizeDailyStats)
+                .where(sellerSizeDailyStats.sellerId.eq(sellerId),
+                        sellerSizeDailyStats.statsDate.between(from, to))
+                .groupBy(sellerSizeDailyStats.shoesSize)
+                .having(paidUnits.gt(0L))
+                .orderBy(paidUnits.desc(), sellerSizeDailyStats.shoesSize.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public SellerSalesSummaryResponse findSummary(Long sellerId, LocalDate from, LocalDate to) {
+        Tuple summary = queryFactory
+                .select(sellerProductDailyStats.orderedUnits.sum(),
+                        sellerProductDailyStats.paidUnits.sum(),
+                        sellerProductDailyStats.paidRevenue.sum(),
+                        sellerProductDailyStats.cancelledUnits.sum())
+                .from(sellerProductDailyStats)
+                .where(sellerProductDailyStats.sellerId.eq(sellerId),
+                        sellerProductDailyStats.statsDate.between(from, to))
+                .fetchOne();
+
+        return SellerSalesSummaryResponse.of(from, to,
+                valueOf(summary, 0),
+                valueOf(summary, 1),
+                valueOf(summary, 2),
+                valueOf(summary, 3));
+    }
+
+    // 집계 행이 없으면 sum 결과가 null
+    private long valueOf(Tuple tuple, int index) {
+        return tuple == null ? 0 : Optional.ofNullable(tuple.get(index, Long.class)).orElse(0L);
+    }
+}
@@ -0,0 +1,63 @@
+package shop.shopBE.domain.selleranalytics.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import shop.shopBE.domain.selleranalytics.entity.SellerProductDailyStats;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface SellerProductDailyStatsRepository extends JpaRepository<SellerProductDailyStats, Long> {
+
+    // 해당 일자의 행이 없으면 추가하고, 있으면 변화량만 더한다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "seller_product_daily_stats"))
+    @Query(value = "insert into seller_product_daily_stats " +
+            "(seller_id, product_id, stats_date, ordered_units, paid_units, paid_revenue, cancelled_units, updated_at) " +
+            "values (:sellerId, :productId, :statsDate, :orderedDelta, :paidDelta, :revenueDelta, :cancelledDelta, :updatedAt) " +
+            "on duplicate key update ordered_units = ordered_units + :orderedDelta, paid_units = paid_units + :paidDelta, " +
+            "paid_revenue = paid_revenue + :revenueDelta, cancelled_units = cancelled_units + :cancelledDelta, updated_at = :updatedAt",
+            nativeQuery = true)
+    int upsertDelta(@Param("sellerId") Long sellerId,
+                    @Param("productId") Long productId,
+                    @Param("statsDate") LocalDate statsDate,
+                    @Param("orderedDelta") long orderedDelta,
+                    @Param("paidDelta") long paidDelta,
+                    @Param("revenueDelta") long revenueDelta,
+                    @Param("cancelledDelta") long cancelledDelta,
+                    @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("delete from SellerProductDailyStats s where s.statsDate = :statsDate")
+    int deleteAllByStatsDate(@Param("statsDate") LocalDate statsDate);
+
+    // 재집계: 하루치 주문상품으로 집계 행을 다시 만든다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "seller_product_daily_stats"))
+    @Query(value = "insert into seller_product_daily_stats " +
+            "(seller_id, product_id, stats_date, ordered_units, paid_units, paid_revenue, cancelled_units, updated_at) " +
+            "select p.member_id, p.id, :statsDate, " +
+            "sum(op.product_count), " +
+            "sum(case when op.current_delivery_status in (:paidStatuses) then op.product_count else 0 end), " +
+            "sum(case when op.current_delivery_status in (:paidStatuses) then op.product_total_price else 0 end), " +
+            "sum(case when op.current_delivery_status = :cancelStatus then op.product_count else 0 end), " +
+            ":updatedAt " +
+            "from order_product op " +
+            "join order_history oh on oh.id = op.order_history_id " +
+            "join product_detail pd on pd.id = op.product_detail_id " +
+            "join product p on p.id = pd.product_id " +
+            "where oh.created_at >= :start and oh.created_at < :end " +
+            "group by p.member_id, p.id", nativeQuery = true)
+    int insertAggregatedFromOrders(@Param("statsDate") LocalDate statsDate,
+                                   @Param("start") LocalDateTime start,
+                                   @Param("end") LocalDateTime end,
+                                   @Param("paidStatuses") Collection<String> paidStatuses,
+                                   @Param("cancelStatus") String cancelStatus,
+                                   @Param("updatedAt") LocalDateTime updatedAt);
+}
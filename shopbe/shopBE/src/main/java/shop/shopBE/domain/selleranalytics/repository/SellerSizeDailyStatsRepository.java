@@ -0,0 +1,52 @@
+package shop.shopBE.domain.selleranalytics.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import shop.shopBE.domain.selleranalytics.entity.SellerSizeDailyStats;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface SellerSizeDailyStatsRepository extends JpaRepository<SellerSizeDailyStats, Long> {
+
+    // 해당 일자의 행이 없으면 추가하고, 있으면 변화량만 더한다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "seller_size_daily_stats"))
+    @Query(value = "insert into seller_size_daily_stats (seller_id, product_id, shoes_size, stats_date, paid_units, updated_at) " +
+            "values (:sellerId, :productId, :shoesSize, :statsDate, :paidDelta, :updatedAt) " +
+            "on duplicate key update paid_units = paid_units + :paidDelta, updated_at = :updatedAt", nativeQuery = true)
+    int upsertDelta(@Param("sellerId") Long sellerId,
+                    @Param("productId") Long productId,
+                    @Param("shoesSize") int shoesSize,
+                    @Param("statsDate") LocalDate statsDate,
+                    @Param("paidDelta") long paidDelta,
+                    @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("delete from SellerSizeDailyStats s where s.statsDate = :statsDate")
+    int deleteAllByStatsDate(@Param("statsDate") LocalDate statsDate);
+
+    // 재집계: 하루치 결제 완료 주문상품으로 사이즈별 집계 행을 다시 만든다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "seller_size_daily_stats"))
+    @Query(value = "insert into seller_size_daily_stats (seller_id, product_id, shoes_size, stats_date, paid_units, updated_at) " +
+            "select p.member_id, p.id, pd.shoes_size, :statsDate, sum(op.product_count), :updatedAt " +
+            "from order_product op " +
+            "join order_history oh on oh.id = op.order_history_id " +
+            "join product_detail pd on pd.id = op.product_detail_id " +
+            "join product p on p.id = pd.product_id " +
+            "where oh.created_at >= :start and oh.created_at < :end " +
+            "and op.current_delivery_status in (:paidStatuses) " +
+            "group by p.member_id, p.id, pd.shoes_size", nativeQuery = true)
+    int insertAggregatedFromOrders(@Param("statsDate") LocalDate statsDate,
+                                   @Param("start") LocalDateTime start,
+                                   @Param("end") LocalDateTime end,
+                                   @Param("paidStatuses") Collection<String> paidStatuses,
+                                   @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -0,0 +1,13 @@
+package shop.shopBE.domain.selleranalytics.response;
+
+import java.time.LocalDate;
+
+// 상품별 일 단위 판매 통계
+public record SellerProductDailyStatsResponse(Long productId,
+                                              String productName,
+                                              LocalDate statsDate,
+                                              long orderedUnits,
+                                              long paidUnits,
+                                              long paidRevenue,
+                                              long cancelledUnits) {
+}
@@ -0,0 +1,18 @@
+package shop.shopBE.domain.selleranalytics.response;
+
+import java.time.LocalDate;
+
+// 기간 내 판매 요약. 취소율 = 취소 수량 / 주문 수량
+public record SellerSalesSummaryResponse(LocalDate from,
+                                         LocalDate to,
+                                         long orderedUnits,
+                                         long paidUnits,
+                                         long paidRevenue,
+                                         long cancelledUnits,
+                                         double cancellationRate) {
+
+    public static SellerSalesSummaryResponse of(LocalDate from, LocalDate to, long orderedUnits, long paidUnits, long paidRevenue, long cancelledUnits) {
+        double cancellationRate = orderedUnits == 0 ? 0.0 : (double) cancelledUnits / orderedUnits;
+        return new SellerSalesSummaryResponse(from, to, orderedUnits, paidUnits, paidRevenue, cancelledUnits, cancellationRate);
+    }
+}
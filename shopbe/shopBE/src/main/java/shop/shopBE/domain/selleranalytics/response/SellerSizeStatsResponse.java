@@ -0,0 +1,6 @@
+package shop.shopBE.domain.selleranalytics.response;
+
+// 사이즈별 판매 수량
+public record SellerSizeStatsResponse(int shoesSize,
+                                      long paidUnits) {
+}
@@ -0,0 +1,62 @@
+package shop.shopBE.domain.selleranalytics.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import shop.shopBE.domain.selleranalytics.exception.SellerAnalyticsExceptionCode;
+import shop.shopBE.global.exception.custom.CustomException;
+import shop.shopBE.global.utils.thread.WorkerThreads;
+
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 과거 주문 기록으로 판매자 통계를 채우는 작업. 요청 스레드 밖에서 하루씩 처리한다.
+@Slf4j
+@Component
+public class SellerAnalyticsBackfillJob {
+
+    private final SellerAnalyticsBackfillService sellerAnalyticsBackfillService;
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public SellerAnalyticsBackfillJob(SellerAnalyticsBackfillService sellerAnalyticsBackfillService,
+                                      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.sellerAnalyticsBackfillService = sellerAnalyticsBackfillService;
+        this.executor = Executors.newSingleThreadExecutor(WorkerThreads.threadFactory("seller-analytics-backfill", virtualThreads));
+    }
+
+    // 한 번에 하나의 재집계만 실행한다.
+    public void start(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new CustomException(SellerAnalyticsExceptionCode.INVALID_PERIOD);
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new CustomException(SellerAnalyticsExceptionCode.BACKFILL_ALREADY_RUNNING);
+        }
+
+        executor.execute(() -> {
+            try {
+                for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                    sellerAnalyticsBackfillService.rebuildDay(date);
+                }
+                log.info("판매자 통계 재집계 완료 - {} ~ {}", from, to);
+            } catch (Exception e) {
+                log.error("판매자 통계 재집계 실패 - {} ~ {}", from, to, e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,55 @@
+package shop.shopBE.domain.selleranalytics.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shop.shopBE.domain.orderproduct.entity.enums.DeliveryStatus;
+import shop.shopBE.domain.orderproduct.repository.OrderProductRepository;
+import shop.shopBE.domain.outbox.entity.enums.OutboxEventType;
+import shop.shopBE.domain.outbox.service.OutboxService;
+import shop.shopBE.domain.selleranalytics.repository.SellerProductDailyStatsRepository;
+import shop.shopBE.domain.selleranalytics.repository.SellerSizeDailyStatsRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+// 판매자 통계 재집계. 하루 단위 트랜잭션으로 해당 일자의 집계 행을 주문 기록에서 다시 만든다.
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SellerAnalyticsBackfillService {
+
+    private static final List<String> PAID_STATUSES = Arrays.stream(DeliveryStatus.values())
+            .filter(DeliveryStatus::isPaid)
+            .map(DeliveryStatus::name)
+            .toList();
+
+    private final OrderProductRepository orderProductRepository;
+    private final OutboxService outboxService;
+    private final SellerProductDailyStatsRepository sellerProductDailyStatsRepository;
+    private final SellerSizeDailyStatsRepository sellerSizeDailyStatsRepository;
+
+    @Transactional
+    public void rebuildDay(LocalDate statsDate) {
+        LocalDateTime start = statsDate.atStartOfDay();
+        LocalDateTime end = statsDate.plusDays(1).atStartOfDay();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 재집계 중에 해당 일자 주문의 상태가 바뀌지 않도록 먼저 잠근다.
+        orderProductRepository.lockIdsByOrderedAtBetween(start, end);
+
+        // 이미 커밋됐지만 아직 반영되지 않은 주문 이벤트를 먼저 처리해서, 재집계 후에 증감분이 한 번 더 더해지지 않게 한다.
+        outboxService.processPending(EnumSet.of(OutboxEventType.ORDER_PLACED,
+                OutboxEventType.ORDER_STATUS_CHANGED, OutboxEventType.ORDER_CANCELLED));
+
+        sellerProductDailyStatsRepository.deleteAllByStatsDate(statsDate);
+        sellerSizeDailyStatsRepository.deleteAllByStatsDate(statsDate);
+
+        sellerProductDailyStatsRepository.insertAggregatedFromOrders(statsDate, start, end,
+                PAID_STATUSES, DeliveryStatus.CANCEL_DELIVERY.name(), now);
+        sellerSizeDailyStatsRepository.insertAggregatedFromOrders(statsDate, start, end, PAID_STATUSES, now);
+    }
+}
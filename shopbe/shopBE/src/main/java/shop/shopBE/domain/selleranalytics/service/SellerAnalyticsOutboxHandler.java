@@ -0,0 +1,49 @@
+package shop.shopBE.domain.selleranalytics.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import shop.shopBE.domain.orderproduct.entity.OrderProduct;
+import shop.shopBE.domain.orderproduct.event.OrderProductStatusChange;
+import shop.shopBE.domain.orderproduct.event.OrderProductsStatusChangedPayload;
+import shop.shopBE.domain.orderproduct.repository.OrderProductRepository;
+import shop.shopBE.domain.outbox.entity.OutboxEvent;
+import shop.shopBE.domain.outbox.entity.enums.OutboxEventType;
+import shop.shopBE.domain.outbox.service.OutboxEventHandler;
+import shop.shopBE.domain.outbox.service.OutboxPayloadMapper;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 주문 이벤트로 판매자 판매 통계를 갱신한다.
+@Component
+@RequiredArgsConstructor
+public class SellerAnalyticsOutboxHandler implements OutboxEventHandler {
+
+    private final SellerAnalyticsService sellerAnalyticsService;
+    private final OrderProductRepository orderProductRepository;
+    private final OutboxPayloadMapper outboxPayloadMapper;
+
+    @Override
+    public boolean supports(OutboxEventType eventType) {
+        return eventType == OutboxEventType.ORDER_PLACED
+                || eventType == OutboxEventType.ORDER_STATUS_CHANGED
+                || eventType == OutboxEventType.ORDER_CANCELLED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        OrderProductsStatusChangedPayload payload = outboxPayloadMapper.read(event, OrderProductsStatusChangedPayload.class);
+        Map<Long, OrderProduct> orderProducts = orderProductRepository.findOrderProductsWithProductByIds(payload.orderProductIds())
+                .stream()
+                .collect(Collectors.toMap(OrderProduct::getId, Function.identity()));
+
+        // 그 사이 삭제된 주문상품은 건너뛴다.
+        for (OrderProductStatusChange change : payload.changes()) {
+            OrderProduct orderProduct = orderProducts.get(change.orderProductId());
+            if (orderProduct != null) {
+                sellerAnalyticsService.recordStatusChange(orderProduct, change.beforeStatus(), change.afterStatus());
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package shop.shopBE.domain.selleranalytics.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shop.shopBE.domain.orderproduct.entity.OrderProduct;
+import shop.shopBE.domain.orderproduct.entity.enums.DeliveryStatus;
+import shop.shopBE.domain.product.entity.Product;
+import shop.shopBE.domain.productdetail.entity.ProductDetail;
+import shop.shopBE.domain.selleranalytics.exception.SellerAnalyticsExceptionCode;
+import shop.shopBE.domain.selleranalytics.repository.SellerAnalyticsQueryRepository;
+import shop.shopBE.domain.selleranalytics.repository.SellerProductDailyStatsRepository;
+import shop.shopBE.domain.selleranalytics.repository.SellerSizeDailyStatsRepository;
+import shop.shopBE.domain.selleranalytics.response.SellerProductDailyStatsResponse;
+import shop.shopBE.domain.selleranalytics.response.SellerSalesSummaryResponse;
+import shop.shopBE.domain.selleranalytics.response.SellerSizeStatsResponse;
+import shop.shopBE.global.exception.custom.CustomException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+// 판매자 판매 통계
+// 주문 생성과 주문상품 상태 변경 시 같은 트랜잭션에서 판매자별 일 단위 집계에 변화량만 더한다.
+// 조회는 집계 테이블만 읽는다.
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SellerAnalyticsService {
+
+    private final SellerProductDailyStatsRepository sellerProductDailyStatsRepository;
+    private final SellerSizeDailyStatsRepository sellerSizeDailyStatsRepository;
+    private final SellerAnalyticsQueryRepository sellerAnalyticsQueryRepository;
+
+    @Value("${seller-analytics.max-period-days:366}")
+    private long maxPeriodDays;
+
+    // 주문상품의 상태 변경을 집계에 반영한다. 주문 생성 시에는 before가 null
+    @Transactional
+    public void recordStatusChange(OrderProduct orderProduct, DeliveryStatus before, DeliveryStatus after) {
+        int count = orderProduct.getProductCount();
+        long orderedDelta = before == null ? count : 0;
+        long paidDelta = paidQuantity(count, after) - paidQuantity(count, before);
+        long revenueDelta = paidQuantity(orderProduct.getProductTotalPrice(), after) - paidQuantity(orderProduct.getProductTotalPrice(), before);
+        long cancelledDelta = cancelledQuantity(count, after) - cancelledQuantity(count, before);
+        if (orderedDelta == 0 && paidDelta == 0 && revenueDelta == 0 && cancelledDelta == 0) {
+            return;
+        }
+
+        ProductDetail productDetail = orderProduct.getProductDetail();
+        Product product = productDetail.getProduct();
+        Long sellerId = product.getMember().getId();
+        LocalDate statsDate = Optional.ofNullable(orderProduct.getOrderHistory().getCreatedAt())
+                .orElseGet(LocalDateTime::now)
+                .toLocalDate();
+        LocalDateTime now = LocalDateTime.now();
+
+        sellerProductDailyStatsRepository.upsertDelta(sellerId, product.getId(), statsDate,
+                orderedDelta, paidDelta, revenueDelta, cancelledDelta, now);
+        if (paidDelta != 0) {
+            sellerSizeDailyStatsRepository.upsertDelta(sellerId, product.getId(), productDetail.getShoesSize(), statsDate, paidDelta, now);
+        }
+    }
+
+    public SellerSalesSummaryResponse findSummary(Long sellerId, LocalDate from, LocalDate to) {
+        validatePeriod(from, to);
+        return sellerAnalyticsQueryRepository.findSummary(sellerId, from, to);
+    }
+
+    public List<SellerProductDailyStatsResponse> findProductDailyStats(Long sellerId, LocalDate from, LocalDate to) {
+        validatePeriod(from, to);
+        return sellerAnalyticsQueryRepository.findProductDailyStats(sellerId, from, to);
+    }
+
+    public List<SellerSizeStatsResponse> findTopSizes(Long sellerId, LocalDate from, LocalDate to, int limit) {
+        validatePeriod(from, to);
+        return sellerAnalyticsQueryRepository.findTopSizes(sellerId, from, to, Math.max(1, Math.min(limit, 50)));
+    }
+
+    // 조회 비용이 기간에 비례하므로 최대 기간을 제한한다.
+    public void validatePeriod(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= maxPeriodDays) {
+            throw new CustomException(SellerAnalyticsExceptionCode.INVALID_PERIOD);
+        }
+    }
+
+    private long paidQuantity(long value, DeliveryStatus status) {
+        return status != null && status.isPaid() ? value : 0;
+    }
+
+    private long cancelledQuantity(long value, DeliveryStatus status) {
+        return status == DeliveryStatus.CANCEL_DELIVERY ? value : 0;
+    }
+}
@@ -0,0 +1,56 @@
+package shop.shopBE.domain.storedfile.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 삭제 대기 중인 저장소 객체. 트랜잭션 안에서 기록되고, 커밋 이후 FileDeletionWorker가 처리한다.
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(indexes = {
+        @Index(name = "idx_file_deletion_next_attempt_at", columnList = "nextAttemptAt")
+})
+public class FileDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 저장소의 객체 이름
+    private String savedName;
+
+    // 삭제 시도 횟수
+    private int attemptCount;
+
+    // 다음 삭제 시도 시각
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime createdAt;
+
+    public static FileDeletion createFileDeletion(String savedName) {
+        LocalDateTime now = LocalDateTime.now();
+        return FileDeletion.builder()
+                .savedName(savedName)
+                .attemptCount(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    // 처리를 시작하면서 점유 만료 시각까지 다른 워커가 가져가지 않게 한다.
+    public void claimUntil(LocalDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt) {
+        this.attemptCount++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -0,0 +1,55 @@
+package shop.shopBE.domain.storedfile.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 업로드된 파일의 내용(해시) 단위 저장 정보. 같은 내용의 파일은 하나의 객체를 참조 수로 공유한다.
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_stored_file_content_hash", columnNames = "contentHash")
+        },
+        indexes = {
+                @Index(name = "idx_stored_file_saved_name", columnList = "savedName")
+        }
+)
+public class StoredFile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 파일 내용의 SHA-256 해시 (hex)
+    @Column(length = 64, nullable = false)
+    private String contentHash;
+
+    // 저장소의 객체 이름
+    private String savedName;
+
+    // 파일 URL
+    private String fileUrl;
+
+    // 이 객체를 참조하는 레코드(상품 이미지, 배너 등)의 수
+    private int refCount;
+
+    // 삭제 워커가 객체 삭제를 시작했는지. 이후에 같은 내용이 다시 올라오면 새 객체 이름을 사용한다.
+    private boolean deleting;
+
+    private LocalDateTime createdAt;
+
+    // 삭제 중인 객체 대신 새 객체 이름을 사용한다.
+    public void relocate(String savedName, String fileUrl) {
+        this.savedName = savedName;
+        this.fileUrl = fileUrl;
+        this.deleting = false;
+    }
+}
@@ -0,0 +1,5 @@
+package shop.shopBE.domain.storedfile.event;
+
+// 삭제 대기열에 객체가 추가되었음을 알리는 이벤트. 커밋 이후 워커를 깨우는 데 사용
+public record FileDeletionQueuedEvent(String savedName) {
+}
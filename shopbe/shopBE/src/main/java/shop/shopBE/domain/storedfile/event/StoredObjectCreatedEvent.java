@@ -0,0 +1,5 @@
+package shop.shopBE.domain.storedfile.event;
+
+// 새 객체 이름으로 업로드를 시작했음을 알리는 이벤트. 호출한 쪽 트랜잭션이 롤백되면 업로드된 객체를 삭제 대기열에 넣는 데 사용
+public record StoredObjectCreatedEvent(String savedName) {
+}
@@ -0,0 +1,18 @@
+package shop.shopBE.domain.storedfile.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import shop.shopBE.domain.storedfile.entity.FileDeletion;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FileDeletionRepository extends JpaRepository<FileDeletion, Long> {
+
+    // 처리할 시각이 된 삭제 요청을 잠그고 가져온다.
+    // 다른 인스턴스가 잠근 행은 건너뛰므로 여러 워커가 동시에 돌아도 같은 요청을 중복 처리하지 않는다.
+    @Query(value = "select * from file_deletion where next_attempt_at <= :now " +
+            "order by id limit :limit for update skip locked", nativeQuery = true)
+    List<FileDeletion> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,56 @@
+package shop.shopBE.domain.storedfile.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import shop.shopBE.domain.storedfile.entity.StoredFile;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+    Optional<StoredFile> findByContentHash(String contentHash);
+
+    // 같은 해시가 없으면 참조 수 1로 추가, 있으면 참조 수만 증가시킨다.
+    // MySQL은 새로 추가된 경우 1, 기존 행을 갱신한 경우 2를 반환한다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "stored_file"))
+    @Query(value = "insert into stored_file (content_hash, saved_name, file_url, ref_count, deleting, created_at) " +
+            "values (:contentHash, :savedName, :fileUrl, 1, false, :createdAt) " +
+            "on duplicate key update ref_count = ref_count + 1", nativeQuery = true)
+    int upsertReference(@Param("contentHash") String contentHash,
+                        @Param("savedName") String savedName,
+                        @Param("fileUrl") String fileUrl,
+                        @Param("createdAt") LocalDateTime createdAt);
+
+    // 호출한 쪽 트랜잭션의 변경(상품 수정 등)을 버리지 않도록 영속성 컨텍스트를 비우지 않는다.
+    @Modifying(flushAutomatically = true)
+    @Query("update StoredFile s set s.refCount = s.refCount - 1 where s.savedName = :savedName and s.refCount > 0")
+    int decreaseRefCount(@Param("savedName") String savedName);
+
+    // 벌크 수정 직후에도 영속성 컨텍스트의 엔티티가 아닌 DB 값을 읽도록 값만 조회한다.
+    @Query("select s.refCount from StoredFile s where s.savedName = :savedName")
+    Optional<Integer> findRefCountBySavedName(@Param("savedName") String savedName);
+
+    // 참조가 없는 행을 삭제 중으로 표시한다. 표시한 뒤에 같은 내용이 다시 올라오면 새 객체 이름을 사용하므로,
+    // 객체를 지우는 동안 행을 잠그고 있지 않아도 된다.
+    @Modifying
+    @Query("update StoredFile s set s.deleting = true where s.savedName in :savedNames and s.refCount <= 0")
+    int markDeleting(@Param("savedNames") Collection<String> savedNames);
+
+    // 주어진 객체 이름 중 참조가 남아 있는 이름
+    @Query("select s.savedName from StoredFile s where s.savedName in :savedNames and s.refCount > 0")
+    List<String> findReferencedSavedNames(@Param("savedNames") Collection<String> savedNames);
+
+    // 삭제 중으로 표시된 채 참조가 없는 행만 제거한다.
+    @Modifying(flushAutomatically = true)
+    @Query("delete from StoredFile s where s.savedName in :savedNames and s.refCount <= 0 and s.deleting = true")
+    int deleteAllDeleting(@Param("savedNames") Collection<String> savedNames);
+}
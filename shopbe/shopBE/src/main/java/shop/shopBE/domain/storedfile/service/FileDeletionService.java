@@ -0,0 +1,102 @@
+package shop.shopBE.domain.storedfile.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shop.shopBE.domain.storedfile.entity.FileDeletion;
+import shop.shopBE.domain.storedfile.repository.FileDeletionRepository;
+import shop.shopBE.domain.storedfile.repository.StoredFileRepository;
+import shop.shopBE.global.utils.storage.StorageBackend;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileDeletionService {
+
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final FileDeletionRepository fileDeletionRepository;
+    private final StoredFileRepository storedFileRepository;
+    private final StorageBackend storageBackend;
+
+    @Value("${storage.deletion.retry-base-delay-ms:5000}")
+    private long retryBaseDelayMs;
+
+    // 처리 중인 요청을 다른 워커가 다시 가져가기까지의 시간
+    @Value("${storage.deletion.lease-seconds:300}")
+    private long leaseSeconds;
+
+    // 삭제 대기열을 한 묶음 점유한다.
+    // 대기 중에 다시 업로드되어 참조가 생긴 객체는 바로 대기열에서 빼고, 나머지는 삭제 중으로 표시한 뒤 커밋한다.
+    // 저장소 삭제는 이 트랜잭션 밖에서 하므로 그동안 stored_file 행을 잠그고 있지 않는다.
+    @Transactional
+    public Claim claimBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<FileDeletion> deletions = fileDeletionRepository.findDueForUpdate(now, batchSize);
+        if (deletions.isEmpty()) {
+            return new Claim(List.of(), List.of(), 0);
+        }
+
+        Set<String> savedNames = new LinkedHashSet<>();
+        deletions.forEach(deletion -> savedNames.add(deletion.getSavedName()));
+
+        storedFileRepository.markDeleting(savedNames);
+        Set<String> referenced = new HashSet<>(storedFileRepository.findReferencedSavedNames(savedNames));
+
+        List<FileDeletion> skipped = new ArrayList<>();
+        List<Long> claimedIds = new ArrayList<>();
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        for (FileDeletion deletion : deletions) {
+            if (referenced.contains(deletion.getSavedName())) {
+                skipped.add(deletion);
+            } else {
+                deletion.claimUntil(leaseUntil);
+                claimedIds.add(deletion.getId());
+            }
+        }
+        fileDeletionRepository.deleteAllInBatch(skipped);
+
+        List<String> toDelete = savedNames.stream()
+                .filter(savedName -> !referenced.contains(savedName))
+                .toList();
+        return new Claim(claimedIds, toDelete, deletions.size());
+    }
+
+    // 저장소 삭제 결과를 반영한다. 지운 객체의 행과 요청을 제거하고, 실패한 요청은 지수적으로 늘어나는 간격으로 다시 시도한다.
+    @Transactional
+    public void complete(Claim claim, Collection<String> failed) {
+        List<String> deleted = claim.savedNames().stream()
+                .filter(savedName -> !failed.contains(savedName))
+                .toList();
+        if (!deleted.isEmpty()) {
+            storedFileRepository.deleteAllDeleting(deleted);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<FileDeletion> done = new ArrayList<>();
+        for (FileDeletion deletion : fileDeletionRepository.findAllById(claim.deletionIds())) {
+            if (failed.contains(deletion.getSavedName())) {
+                deletion.retryAt(now.plus(backoff(deletion.getAttemptCount())));
+                log.warn("파일 삭제 실패 savedName={}, attemptCount={}", deletion.getSavedName(), deletion.getAttemptCount());
+            } else {
+                done.add(deletion);
+            }
+        }
+        fileDeletionRepository.deleteAllInBatch(done);
+    }
+
+    private Duration backoff(int attemptCount) {
+        long delay = retryBaseDelayMs << Math.min(attemptCount, 20);
+        return delay > MAX_BACKOFF.toMillis() ? MAX_BACKOFF : Duration.ofMillis(delay);
+    }
+
+    // 점유한 삭제 요청 id, 저장소에서 지울 객체 이름, 대기열에서 가져온 요청 수
+    public record Claim(List<Long> deletionIds, List<String> savedNames, int fetched) {
+    }
+}
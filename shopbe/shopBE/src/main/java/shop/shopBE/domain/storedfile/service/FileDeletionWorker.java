@@ -0,0 +1,94 @@
+package shop.shopBE.domain.storedfile.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shop.shopBE.domain.storedfile.event.FileDeletionQueuedEvent;
+import shop.shopBE.global.utils.storage.StorageBackend;
+import shop.shopBE.global.utils.thread.WorkerThreads;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 삭제 대기열을 요청 스레드 밖에서 처리한다.
+// 커밋 직후 이벤트로 깨어나고, 실패한 요청의 재시도와 다른 인스턴스가 남긴 요청은 주기적인 실행으로 처리한다.
+@Slf4j
+@Component
+public class FileDeletionWorker {
+
+    private final FileDeletionService fileDeletionService;
+    private final StorageBackend storageBackend;
+
+    // 하나의 스레드에서만 실행하고, 실행 중에 들어온 요청은 한 번의 추가 실행으로 합친다.
+    private final ExecutorService executor;
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    // S3 다중 객체 삭제는 한 번에 최대 1000개
+    private final int batchSize;
+
+    public FileDeletionWorker(FileDeletionService fileDeletionService,
+                              StorageBackend storageBackend,
+                              @Value("${storage.deletion.batch-size:500}") int batchSize,
+                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.fileDeletionService = fileDeletionService;
+        this.storageBackend = storageBackend;
+        this.batchSize = batchSize;
+        this.executor = Executors.newSingleThreadExecutor(WorkerThreads.threadFactory("file-deletion-worker", virtualThreads));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFileDeletionQueued(FileDeletionQueuedEvent event) {
+        trigger();
+    }
+
+    @Scheduled(fixedDelayString = "${storage.deletion.poll-interval-ms:30000}")
+    public void poll() {
+        trigger();
+    }
+
+    public void trigger() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        scheduled.set(false);
+        try {
+            // 한 묶음이 가득 찼으면 남은 요청이 있을 수 있으므로 계속 처리
+            int fetched;
+            do {
+                fetched = processBatch();
+            } while (fetched >= batchSize);
+        } catch (Exception e) {
+            log.error("파일 삭제 대기열 처리 실패", e);
+        }
+    }
+
+    // 점유(커밋) -> 저장소 삭제(트랜잭션 밖) -> 결과 반영(커밋). 대기열에서 가져온 요청 수를 반환한다.
+    // 중간에 실패하면 점유 시간이 지난 뒤 다시 처리된다.
+    private int processBatch() {
+        FileDeletionService.Claim claim = fileDeletionService.claimBatch(batchSize);
+        if (claim.deletionIds().isEmpty()) {
+            return claim.fetched();
+        }
+
+        Set<String> failed = claim.savedNames().isEmpty()
+                ? Set.of()
+                : new HashSet<>(storageBackend.deleteAll(claim.savedNames()));
+        fileDeletionService.complete(claim, failed);
+        return claim.fetched();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,83 @@
+package shop.shopBE.domain.storedfile.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shop.shopBE.domain.storedfile.entity.FileDeletion;
+import shop.shopBE.domain.storedfile.entity.StoredFile;
+import shop.shopBE.domain.storedfile.event.FileDeletionQueuedEvent;
+import shop.shopBE.domain.storedfile.event.StoredObjectCreatedEvent;
+import shop.shopBE.domain.storedfile.repository.FileDeletionRepository;
+import shop.shopBE.domain.storedfile.repository.StoredFileRepository;
+import shop.shopBE.global.utils.storage.StorageBackend;
+
+import java.time.LocalDateTime;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class StoredFileService {
+
+    private final StoredFileRepository storedFileRepository;
+    private final FileDeletionRepository fileDeletionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StorageBackend storageBackend;
+
+    // 파일 참조를 추가한다. 처음 등록된 내용이면 created가 true이고, 호출한 쪽에서 실제 업로드를 진행한다.
+    // 같은 해시로 동시에 들어온 요청은 유니크 인덱스의 행 잠금으로 직렬화된다.
+    // 참조 수가 0이 되어 삭제 대기 중인 내용이면 객체가 아직 남아 있으므로 그대로 재사용한다. (워커가 삭제를 건너뜀)
+    // 이미 저장된 내용이면 확장자가 달라도 처음 저장된 객체 이름과 URL을 돌려준다.
+    // 삭제 워커가 이미 지우기 시작한 내용이면 객체가 곧 없어지므로, 새 객체 이름으로 옮기고 다시 업로드하게 한다.
+    // 새로 업로드하는 경우 호출한 쪽 트랜잭션이 롤백되면 행은 없어지고 객체만 남으므로, 롤백 시 삭제 대기열에 넣도록 이벤트를 남긴다.
+    @Transactional
+    public Reference addReference(String contentHash, String savedName, String fileUrl) {
+        boolean created = storedFileRepository.upsertReference(contentHash, savedName, fileUrl, LocalDateTime.now()) == 1;
+        if (created) {
+            eventPublisher.publishEvent(new StoredObjectCreatedEvent(savedName));
+            return new Reference(savedName, fileUrl, true);
+        }
+
+        StoredFile storedFile = storedFileRepository.findByContentHash(contentHash)
+                .orElseThrow(() -> new IllegalStateException("stored_file row missing after upsert: " + contentHash));
+        if (storedFile.isDeleting()) {
+            String newSavedName = contentHash + "-" + Long.toString(System.currentTimeMillis(), 36)
+                    + savedName.substring(contentHash.length());
+            storedFile.relocate(newSavedName, storageBackend.getUrl(newSavedName));
+            eventPublisher.publishEvent(new StoredObjectCreatedEvent(newSavedName));
+            return new Reference(storedFile.getSavedName(), storedFile.getFileUrl(), true);
+        }
+        return new Reference(storedFile.getSavedName(), storedFile.getFileUrl(), false);
+    }
+
+    // 파일 참조를 하나 제거한다. 더 이상 참조가 없으면 삭제 대기열에 등록한다.
+    // 대기열 등록은 호출한 쪽의 트랜잭션에 포함되므로, 롤백되면 파일도 삭제되지 않는다.
+    @Transactional
+    public void removeReference(String savedName) {
+        // 중복 제거 이전에 업로드되어 참조 정보가 없는 파일(감소된 행 없음)은 바로 대기열에 등록한다.
+        if (storedFileRepository.decreaseRefCount(savedName) > 0) {
+            int refCount = storedFileRepository.findRefCountBySavedName(savedName).orElse(0);
+            if (refCount > 0) {
+                return;
+            }
+        }
+
+        fileDeletionRepository.save(FileDeletion.createFileDeletion(savedName));
+        eventPublisher.publishEvent(new FileDeletionQueuedEvent(savedName));
+    }
+
+    // 업로드한 트랜잭션이 롤백되어 참조하는 행이 없어진 객체를 새 트랜잭션에서 삭제 대기열에 넣는다.
+    // 그 사이 같은 내용이 다시 업로드되어 참조가 생기면 삭제 워커가 건너뛴다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onUploadRolledBack(StoredObjectCreatedEvent event) {
+        fileDeletionRepository.save(FileDeletion.createFileDeletion(event.savedName()));
+        eventPublisher.publishEvent(new FileDeletionQueuedEvent(event.savedName()));
+    }
+
+    public record Reference(String savedName, String fileUrl, boolean created) {
+    }
+}
@@ -0,0 +1,108 @@
+package shop.shopBE.domain.trending.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import shop.shopBE.domain.orderproduct.entity.enums.DeliveryStatus;
+import shop.shopBE.domain.productimage.entity.enums.ProductImageCategory;
+import shop.shopBE.domain.trending.response.TrendingActivity;
+import shop.shopBE.domain.trending.response.TrendingProduct;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static shop.shopBE.domain.likesitem.entity.QLikesItem.likesItem;
+import static shop.shopBE.domain.orderhistory.entity.QOrderHistory.orderHistory;
+import static shop.shopBE.domain.orderproduct.entity.QOrderProduct.orderProduct;
+import static shop.shopBE.domain.product.entity.QProduct.product;
+import static shop.shopBE.domain.productdetail.entity.QProductDetail.productDetail;
+import static shop.shopBE.domain.productimage.entity.QProductImage.productImage;
+
+// 급상승 순위용 조회. id 이후의 기록만 기본키 범위로 읽는다.
+@Repository
+@RequiredArgsConstructor
+public class TrendingQueryRepository {
+
+    private static final Set<DeliveryStatus> PAID_STATUSES = EnumSet.allOf(DeliveryStatus.class).stream()
+            .filter(DeliveryStatus::isPaid)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final JPAQueryFactory queryFactory;
+
+    public List<TrendingActivity> findLikesAfter(Long lastId, int limit) {
+        return queryFactory
+                .select(likesItem.id, likesItem.product.id, likesItem.createdAt)
+                .from(likesItem)
+                .where(likesItem.id.gt(lastId))
+                .orderBy(likesItem.id.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(tuple -> new TrendingActivity(
+                        tuple.get(likesItem.id),
+                        tuple.get(likesItem.product.id),
+                        1,
+                        null,
+                        tuple.get(likesItem.createdAt)))
+                .toList();
+    }
+
+    public List<TrendingActivity> findOrderProductsAfter(Long lastId, int limit) {
+        return queryFactory
+                .select(Projections.constructor(TrendingActivity.class,
+                        orderProduct.id,
+                        productDetail.product.id,
+                        orderProduct.productCount,
+                        orderProduct.currentDeliveryStatus,
+                        orderHistory.createdAt))
+                .from(orderProduct)
+                .join(orderProduct.productDetail, productDetail)
+                .join(orderProduct.orderHistory, orderHistory)
+                .where(orderProduct.id.gt(lastId))
+                .orderBy(orderProduct.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 주어진 찜 중 아직 남아 있는 찜의 id (찜 취소 반영용)
+    public List<Long> findExistingLikesItemIds(Collection<Long> likesItemIds) {
+        return queryFactory
+                .select(likesItem.id)
+                .from(likesItem)
+                .where(likesItem.id.in(likesItemIds))
+                .fetch();
+    }
+
+    // 주어진 주문상품 중 아직 결제 완료 상태인 주문상품의 id (주문 취소 반영용)
+    public List<Long> findPaidOrderProductIds(Collection<Long> orderProductIds) {
+        return queryFactory
+                .select(orderProduct.id)
+                .from(orderProduct)
+                .where(orderProduct.id.in(orderProductIds),
+                        orderProduct.currentDeliveryStatus.in(PAID_STATUSES))
+                .fetch();
+    }
+
+    public List<TrendingProduct> findTrendingProducts(Collection<Long> productIds) {
+        return queryFactory
+                .select(Projections.constructor(TrendingProduct.class,
+                        product.id,
+                        productImage.savedName,
+                        product.productName,
+                        product.price,
+                        product.seasonCategory,
+                        product.personCategory,
+                        product.productCategory,
+                        product.isDeleted))
+                .from(product)
+                .innerJoin(productImage)
+                .on(productImage.product.eq(product))
+                .where(product.id.in(productIds),
+                        productImage.productImageCategory.eq(ProductImageCategory.MAIN))
+                .fetch();
+    }
+}
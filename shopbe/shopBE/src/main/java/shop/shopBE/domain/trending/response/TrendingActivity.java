@@ -0,0 +1,15 @@
+package shop.shopBE.domain.trending.response;
+
+import shop.shopBE.domain.orderproduct.entity.enums.DeliveryStatus;
+
+import java.time.LocalDateTime;
+
+// 급상승 점수 계산에 사용하는 찜 또는 주문 기록 (주문이 아니면 status, count는 사용하지 않음)
+public record TrendingActivity(
+        Long id,
+        Long productId,
+        int count,
+        DeliveryStatus status,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,23 @@
+package shop.shopBE.domain.trending.response;
+
+import shop.shopBE.domain.product.entity.enums.PersonCategory;
+import shop.shopBE.domain.product.entity.enums.ProductCategory;
+import shop.shopBE.domain.product.entity.enums.SeasonCategory;
+import shop.shopBE.domain.product.response.ProductCardViewModel;
+
+// 급상승 순위에 올릴 상품 카드와 분류 정보
+public record TrendingProduct(
+        Long productId,
+        String imgUrl,
+        String productName,
+        int price,
+        SeasonCategory seasonCategory,
+        PersonCategory personCategory,
+        ProductCategory productCategory,
+        boolean isDeleted
+) {
+
+    public ProductCardViewModel toCardView() {
+        return new ProductCardViewModel(productId, imgUrl, productName, price);
+    }
+}
@@ -0,0 +1,71 @@
+package shop.shopBE.domain.trending.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+// 지수적으로 감소하는 급상승 점수
+// 점수를 매번 현재 시각 기준으로 줄이지 않고, 기준 시각(anchor)에서의 값으로 저장한다.
+//   기록 하나의 점수 = weight * 2^((기록 시각 - anchor) / 반감기)
+// 모든 상품이 같은 기준 시각을 쓰므로 저장된 값끼리 바로 비교할 수 있고, 새 기록이 들어온 상품만 갱신하면 된다.
+// 값이 너무 커지지 않도록 기준 시각이 오래되면 한 번에 옮긴다.
+public class TrendingScores {
+
+    // 기준 시각에서 이만큼의 반감기가 지나면 기준 시각을 현재로 옮긴다. (2^40 이하로 유지)
+    private static final int REBASE_HALF_LIVES = 40;
+
+    // 현재 시각 기준 점수가 이보다 작으면 순위에서 제외
+    private static final double MIN_SCORE = 1e-3;
+
+    private final double halfLifeSeconds;
+    private final Map<Long, Double> scores = new HashMap<>();
+    private long anchorEpochSecond;
+
+    public TrendingScores(Duration halfLife, long anchorEpochSecond) {
+        this.halfLifeSeconds = halfLife.toSeconds();
+        this.anchorEpochSecond = anchorEpochSecond;
+    }
+
+    public void add(Long productId, double weight, long epochSecond) {
+        scores.merge(productId, weight * decay(epochSecond - anchorEpochSecond), Double::sum);
+    }
+
+    // add로 더했던 기록 하나를 뺀다. 남은 기록이 없으면 (부동소수점 오차 이하) 상품을 제외한다.
+    public void subtract(Long productId, double weight, long epochSecond) {
+        double contribution = weight * decay(epochSecond - anchorEpochSecond);
+        scores.computeIfPresent(productId, (id, score) -> {
+            double remaining = score - contribution;
+            return remaining <= contribution * 1e-9 ? null : remaining;
+        });
+    }
+
+    // 현재 시각 기준 점수
+    public double currentScore(Long productId, long nowEpochSecond) {
+        return scores.getOrDefault(productId, 0.0) * decay(anchorEpochSecond - nowEpochSecond);
+    }
+
+    // 순위 비교용 점수 (기준 시각 기준)
+    public double anchoredScore(Long productId) {
+        return scores.getOrDefault(productId, 0.0);
+    }
+
+    public Set<Long> productIds() {
+        return scores.keySet();
+    }
+
+    public void rebaseIfNeeded(long nowEpochSecond) {
+        if (nowEpochSecond - anchorEpochSecond < REBASE_HALF_LIVES * halfLifeSeconds) {
+            return;
+        }
+
+        double factor = decay(anchorEpochSecond - nowEpochSecond);
+        scores.replaceAll((productId, score) -> score * factor);
+        scores.values().removeIf(score -> score < MIN_SCORE);
+        anchorEpochSecond = nowEpochSecond;
+    }
+
+    private double decay(long elapsedSeconds) {
+        return Math.pow(2, elapsedSeconds / halfLifeSeconds);
+    }
+}
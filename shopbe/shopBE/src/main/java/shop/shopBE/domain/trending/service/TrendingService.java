@@ -0,0 +1,306 @@
+package shop.shopBE.domain.trending.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shop.shopBE.domain.orderproduct.entity.enums.DeliveryStatus;
+import shop.shopBE.domain.product.entity.enums.PersonCategory;
+import shop.shopBE.domain.product.entity.enums.ProductCategory;
+import shop.shopBE.domain.product.entity.enums.SeasonCategory;
+import shop.shopBE.domain.product.event.ProductChangedEvent;
+import shop.shopBE.domain.product.response.ProductCardViewModel;
+import shop.shopBE.domain.trending.repository.TrendingQueryRepository;
+import shop.shopBE.domain.trending.response.TrendingActivity;
+import shop.shopBE.domain.trending.response.TrendingProduct;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+// 최근 찜과 판매로 계산한 급상승 순위
+// 백그라운드 작업이 마지막으로 읽은 id 이후의 찜, 주문상품만 읽어서 점수를 갱신하고,
+// 카테고리 조합(시즌 x 대상 x 상품분류, 각각 전체 포함)별로 정렬된 상품 카드 목록을 만들어 둔다.
+// 조회는 만들어 둔 목록에서 페이지 범위만 잘라서 반환한다.
+// 반영한 찜과 주문상품은 점수가 의미 있는 동안 기억해 두고, 주기적으로 DB와 비교해서
+// 찜이 취소되었거나 주문이 취소된 기록의 점수를 다시 뺀다. (여러 서버가 각자 DB 기준으로 같은 결과를 얻는다)
+@Slf4j
+@Service
+public class TrendingService {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String ANY = "*";
+
+    // 반영한 기록을 기억하는 기간 (반감기 배수). 이보다 오래된 기록의 점수는 1% 미만이라 취소되어도 빼지 않는다.
+    private static final int TRACKED_HALF_LIVES = 7;
+
+    // 점수에 반영한 기록 하나
+    private record Counted(Long productId, double weight, long epochSecond) {
+    }
+
+    private final TrendingQueryRepository trendingQueryRepository;
+    private final TrendingScores scores;
+    private final double likeWeight;
+    private final double saleWeight;
+    private final int maxRanked;
+    private final Duration pendingGrace;
+    private final Duration trackedPeriod;
+    private final Duration reconcileInterval;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    // 아래 필드는 refreshLock을 가진 스레드만 변경한다.
+    private long lastLikesItemId = 0;
+    private long lastOrderProductId = 0;
+    private final Map<Long, Counted> countedLikes = new HashMap<>();         // 찜 id -> 반영한 점수
+    private final Map<Long, Counted> countedOrderProducts = new HashMap<>(); // 주문상품 id -> 반영한 점수
+    private LocalDateTime lastReconciledAt = LocalDateTime.MIN;
+    private final Map<Long, TrendingProduct> products = new HashMap<>();
+
+    private final Set<Long> staleProductIds = ConcurrentHashMap.newKeySet();
+
+    // 카테고리 조합 -> 점수순 상품 카드. 처음 계산이 끝나기 전에는 null
+    private volatile Map<String, List<ProductCardViewModel>> rankings;
+    private volatile long rankingsVersion = 0;
+
+    public TrendingService(TrendingQueryRepository trendingQueryRepository,
+                           @Value("${trending.half-life-hours:24}") long halfLifeHours,
+                           @Value("${trending.like-weight:1}") double likeWeight,
+                           @Value("${trending.sale-weight:3}") double saleWeight,
+                           @Value("${trending.max-ranked:1000}") int maxRanked,
+                           @Value("${trending.pending-grace-minutes:30}") long pendingGraceMinutes,
+                           @Value("${trending.reconcile-interval-seconds:60}") long reconcileIntervalSeconds) {
+        this.trendingQueryRepository = trendingQueryRepository;
+        this.scores = new TrendingScores(Duration.ofHours(halfLifeHours), epochSecond(LocalDateTime.now()));
+        this.likeWeight = likeWeight;
+        this.saleWeight = saleWeight;
+        this.maxRanked = maxRanked;
+        this.pendingGrace = Duration.ofMinutes(pendingGraceMinutes);
+        this.trackedPeriod = Duration.ofHours(halfLifeHours * TRACKED_HALF_LIVES);
+        this.reconcileInterval = Duration.ofSeconds(reconcileIntervalSeconds);
+    }
+
+    // 급상승 순위의 한 페이지. 순위가 아직 없거나 해당 조합에 최근 활동이 없으면 empty
+    public Optional<List<ProductCardViewModel>> findPage(Pageable pageable,
+                                                         SeasonCategory seasonCategory,
+                                                         PersonCategory personCategory,
+                                                         ProductCategory productCategory) {
+        Map<String, List<ProductCardViewModel>> current = rankings;
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        List<ProductCardViewModel> ranked = current.get(key(seasonCategory, personCategory, productCategory));
+        if (ranked == null || ranked.isEmpty()) {
+            return Optional.empty();
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        return Optional.of(ranked.subList(from, to));
+    }
+
+    // 순위가 다시 계산될 때마다 증가 (급상승순 목록 ETag용)
+    public long getRankingsVersion() {
+        return rankingsVersion;
+    }
+
+    // 첫 실행에서 기존 기록을 모두 읽고, 이후에는 새 기록만 읽는다.
+    @Scheduled(fixedDelayString = "${trending.poll-interval-ms:10000}")
+    public void refresh() {
+        if (!refreshLock.tryLock()) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            boolean changed = pollLikes();
+            changed |= pollOrderProducts(now);
+            if (!lastReconciledAt.plus(reconcileInterval).isAfter(now)) {
+                changed |= reconcile(now);
+                lastReconciledAt = now;
+            }
+            changed |= !staleProductIds.isEmpty();
+
+            scores.rebaseIfNeeded(epochSecond(now));
+            if (changed || rankings == null) {
+                rebuildRankings();
+            }
+        } catch (Exception e) {
+            log.error("급상승 순위 갱신 실패", e);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // 상품 정보가 바뀌면 다음 갱신 때 카드 정보를 다시 읽는다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        staleProductIds.add(event.productId());
+    }
+
+    private boolean pollLikes() {
+        boolean changed = false;
+        List<TrendingActivity> likes;
+        do {
+            likes = trendingQueryRepository.findLikesAfter(lastLikesItemId, BATCH_SIZE);
+            for (TrendingActivity like : likes) {
+                // 찜한 시각이 없는 이전 데이터는 반영하지 않는다.
+                if (like.createdAt() != null) {
+                    count(countedLikes, like.id(), like.productId(), likeWeight, like.createdAt());
+                    changed = true;
+                }
+                lastLikesItemId = like.id();
+            }
+        } while (likes.size() == BATCH_SIZE);
+        return changed;
+    }
+
+    // 결제가 끝난 주문상품만 반영한다.
+    // 결제 대기 중인 주문상품이 있으면 그 앞까지만 읽은 위치를 옮기고, 다음 갱신 때 다시 확인한다.
+    private boolean pollOrderProducts(LocalDateTime now) {
+        boolean changed = false;
+        boolean blocked = false;
+        long scanFrom = lastOrderProductId;
+        LocalDateTime pendingSince = now.minus(pendingGrace);
+
+        List<TrendingActivity> orderProducts;
+        do {
+            orderProducts = trendingQueryRepository.findOrderProductsAfter(scanFrom, BATCH_SIZE);
+            for (TrendingActivity orderProduct : orderProducts) {
+                Long id = orderProduct.id();
+                scanFrom = id;
+
+                if (!countedOrderProducts.containsKey(id)) {
+                    if (orderProduct.status() != null && orderProduct.status().isPaid()) {
+                        count(countedOrderProducts, id, orderProduct.productId(), saleWeight * orderProduct.count(),
+                                orderProduct.createdAt());
+                        changed = true;
+                    } else if (orderProduct.status() == DeliveryStatus.BEFORE_PAY
+                            && orderProduct.createdAt().isAfter(pendingSince)) {
+                        blocked = true;
+                        continue;
+                    }
+                    // 취소되었거나 결제되지 않고 오래된 주문은 반영하지 않고 넘어간다.
+                }
+
+                if (!blocked) {
+                    lastOrderProductId = id;
+                }
+            }
+        } while (orderProducts.size() == BATCH_SIZE);
+        return changed;
+    }
+
+    private void count(Map<Long, Counted> counted, Long id, Long productId, double weight, LocalDateTime createdAt) {
+        long epochSecond = epochSecond(createdAt);
+        scores.add(productId, weight, epochSecond);
+        counted.put(id, new Counted(productId, weight, epochSecond));
+    }
+
+    // 기억하고 있는 기록 중 취소된 찜, 더 이상 결제 완료 상태가 아닌 주문상품의 점수를 뺀다.
+    private boolean reconcile(LocalDateTime now) {
+        long trackedSince = epochSecond(now.minus(trackedPeriod));
+        countedLikes.values().removeIf(counted -> counted.epochSecond() < trackedSince);
+        countedOrderProducts.values().removeIf(counted -> counted.epochSecond() < trackedSince);
+
+        boolean changed = uncountMissing(countedLikes, trendingQueryRepository::findExistingLikesItemIds);
+        changed |= uncountMissing(countedOrderProducts, trendingQueryRepository::findPaidOrderProductIds);
+        return changed;
+    }
+
+    private boolean uncountMissing(Map<Long, Counted> counted, Function<List<Long>, List<Long>> findRemaining) {
+        List<Long> ids = new ArrayList<>(counted.keySet());
+        Set<Long> remaining = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            remaining.addAll(findRemaining.apply(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()))));
+        }
+
+        boolean changed = false;
+        for (Long id : ids) {
+            if (!remaining.contains(id)) {
+                Counted removed = counted.remove(id);
+                scores.subtract(removed.productId(), removed.weight(), removed.epochSecond());
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private void rebuildRankings() {
+        for (Long staleProductId : staleProductIds) {
+            staleProductIds.remove(staleProductId);
+            products.remove(staleProductId);
+        }
+        loadMissingProducts();
+
+        List<Long> ranked = scores.productIds().stream()
+                .filter(productId -> {
+                    TrendingProduct product = products.get(productId);
+                    return product != null && !product.isDeleted();
+                })
+                .sorted(Comparator.comparingDouble(scores::anchoredScore).reversed())
+                .toList();
+
+        Map<String, List<ProductCardViewModel>> rebuilt = new HashMap<>();
+        for (Long productId : ranked) {
+            TrendingProduct product = products.get(productId);
+            ProductCardViewModel cardView = product.toCardView();
+
+            for (String key : keys(product)) {
+                List<ProductCardViewModel> cardViews = rebuilt.computeIfAbsent(key, k -> new ArrayList<>());
+                if (cardViews.size() < maxRanked) {
+                    cardViews.add(cardView);
+                }
+            }
+        }
+
+        Map<String, List<ProductCardViewModel>> published = new HashMap<>();
+        rebuilt.forEach((key, cardViews) -> published.put(key, List.copyOf(cardViews)));
+        rankings = Map.copyOf(published);
+        rankingsVersion++;
+    }
+
+    private void loadMissingProducts() {
+        List<Long> missing = scores.productIds().stream()
+                .filter(productId -> !products.containsKey(productId))
+                .toList();
+
+        for (int from = 0; from < missing.size(); from += BATCH_SIZE) {
+            List<Long> chunk = missing.subList(from, Math.min(from + BATCH_SIZE, missing.size()));
+            for (TrendingProduct product : trendingQueryRepository.findTrendingProducts(chunk)) {
+                products.put(product.productId(), product);
+            }
+        }
+    }
+
+    // 상품이 속하는 모든 카테고리 조합 (각 분류가 지정된 경우와 전체인 경우)
+    private List<String> keys(TrendingProduct product) {
+        List<String> keys = new ArrayList<>(8);
+        for (SeasonCategory season : Arrays.asList(product.seasonCategory(), null)) {
+            for (PersonCategory person : Arrays.asList(product.personCategory(), null)) {
+                for (ProductCategory category : Arrays.asList(product.productCategory(), null)) {
+                    keys.add(key(season, person, category));
+                }
+            }
+        }
+        return keys;
+    }
+
+    private String key(SeasonCategory seasonCategory, PersonCategory personCategory, ProductCategory productCategory) {
+        return (seasonCategory == null ? ANY : seasonCategory.name()) + "|"
+                + (personCategory == null ? ANY : personCategory.name()) + "|"
+                + (productCategory == null ? ANY : productCategory.name());
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+}
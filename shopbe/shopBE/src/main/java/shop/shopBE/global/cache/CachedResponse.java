@@ -0,0 +1,17 @@
+package shop.shopBE.global.cache;
+
+// 직렬화가 끝난 응답. 본문은 UTF-8 JSON 바이트와 미리 압축한 gzip 바이트(없으면 null)로 보관한다.
+public record CachedResponse(
+        byte[] body,
+        byte[] gzipBody,
+        String contentType,
+        String eTag,
+        long lastModified,
+        String cacheControl,
+        long createdAtNanos
+) {
+
+    public long size() {
+        return body.length + (gzipBody == null ? 0 : gzipBody.length);
+    }
+}
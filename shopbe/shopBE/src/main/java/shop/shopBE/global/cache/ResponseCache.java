@@ -0,0 +1,128 @@
+package shop.shopBE.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import shop.shopBE.global.cache.property.ResponseCacheProperties;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+// 응답 바이트 캐시. 전체 바이트 수로 크기를 제한하고, 가장 오래 사용되지 않은 응답부터 제거한다. (LRU)
+@Component
+@RequiredArgsConstructor
+public class ResponseCache {
+
+    private final ResponseCacheProperties properties;
+
+    // accessOrder = true: 조회할 때마다 맨 뒤로 이동
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long totalBytes = 0;
+
+    // 무효화할 때마다 증가한다. 응답을 만드는 동안 무효화가 있었으면 그 응답은 넣지 않는다.
+    private volatile long generation = 0;
+
+    public CachedResponse get(String key) {
+        lock.lock();
+        try {
+            CachedResponse cachedResponse = entries.get(key);
+            if (cachedResponse == null) {
+                return null;
+            }
+
+            if (isExpired(cachedResponse)) {
+                remove(key);
+                return null;
+            }
+            return cachedResponse;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 응답을 만들기 전에 읽은 세대 번호
+    public long generation() {
+        return generation;
+    }
+
+    // expectedGeneration 이후에 무효화가 있었으면 오래된 응답일 수 있으므로 넣지 않는다.
+    public void put(String key, CachedResponse cachedResponse, long expectedGeneration) {
+        long size = sizeOf(key, cachedResponse);
+        if (size > properties.maxEntryBytes()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (generation != expectedGeneration) {
+                return;
+            }
+
+            remove(key);
+            entries.put(key, cachedResponse);
+            totalBytes += size;
+
+            // 최대 크기를 넘으면 가장 오래 사용되지 않은 응답부터 제거
+            Iterator<Map.Entry<String, CachedResponse>> iterator = entries.entrySet().iterator();
+            while (totalBytes > properties.maxBytes() && iterator.hasNext()) {
+                Map.Entry<String, CachedResponse> eldest = iterator.next();
+                totalBytes -= sizeOf(eldest.getKey(), eldest.getValue());
+                iterator.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 경로가 prefix로 시작하는 응답을 모두 제거한다.
+    public void evictByPrefix(String prefix) {
+        evictIf(key -> key.startsWith(prefix));
+    }
+
+    // 키가 조건에 맞는 응답을 모두 제거한다.
+    public void evictIf(Predicate<String> condition) {
+        lock.lock();
+        try {
+            generation++;
+            Iterator<Map.Entry<String, CachedResponse>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, CachedResponse> entry = iterator.next();
+                if (condition.test(entry.getKey())) {
+                    totalBytes -= sizeOf(entry.getKey(), entry.getValue());
+                    iterator.remove();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void evict(String key) {
+        lock.lock();
+        try {
+            generation++;
+            remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= sizeOf(key, removed);
+        }
+    }
+
+    private boolean isExpired(CachedResponse cachedResponse) {
+        return System.nanoTime() - cachedResponse.createdAtNanos() > TimeUnit.SECONDS.toNanos(properties.ttlSeconds());
+    }
+
+    private long sizeOf(String key, CachedResponse cachedResponse) {
+        return cachedResponse.size() + key.length() * 2L;
+    }
+}
@@ -0,0 +1,43 @@
+package shop.shopBE.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shop.shopBE.domain.banner.event.BannerChangedEvent;
+import shop.shopBE.domain.product.event.ProductChangedEvent;
+import shop.shopBE.domain.product.request.SortingOption;
+
+// 상품, 배너 변경이 커밋되면 관련된 캐시 응답을 제거한다.
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheInvalidator {
+
+    private static final String SORTING_OPTION = "sortingOption=";
+
+    private final ResponseCache responseCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        responseCache.evictByPrefix("/products/" + event.productId() + "?");
+
+        // 찜 수는 목록에 표시되지 않으므로 찜 수로 정렬하는 인기순(기본 정렬) 목록만 제거
+        if (event.likeCountOnly()) {
+            responseCache.evictIf(key -> key.startsWith("/products?") && isPopularSort(key));
+            return;
+        }
+
+        // 정렬 순서나 표시 정보에 영향을 받을 수 있는 모든 목록 조회를 제거
+        responseCache.evictByPrefix("/products?");
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBannerChanged(BannerChangedEvent event) {
+        responseCache.evictByPrefix("/banners?");
+    }
+
+    // 캐시 키는 "경로?이름=값&..." 형식이다. 정렬 옵션이 없으면 인기순
+    private boolean isPopularSort(String key) {
+        return !key.contains(SORTING_OPTION) || key.contains(SORTING_OPTION + SortingOption.POPULAR.name() + "&");
+    }
+}
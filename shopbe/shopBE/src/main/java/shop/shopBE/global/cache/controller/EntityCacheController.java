@@ -0,0 +1,29 @@
+package shop.shopBE.global.cache.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import shop.shopBE.global.cache.entity.LocalCacheRegionFactory;
+import shop.shopBE.global.cache.response.EntityCacheRegionStats;
+import shop.shopBE.global.response.ResponseFormat;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "2차 캐시", description = "엔티티/쿼리 캐시 통계 API")
+public class EntityCacheController {
+
+    private final LocalCacheRegionFactory localCacheRegionFactory;
+
+    @GetMapping("/admin/entity-cache")
+    @Operation(summary = "2차 캐시 통계 조회", description = "관리자는 캐시 리전별 항목 수, 적중/실패 수, 제거 수를 조회할 수 있다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseFormat<List<EntityCacheRegionStats>>> getEntityCacheStats() {
+        return ResponseEntity.ok().body(ResponseFormat.of("2차 캐시 통계 조회 성공", localCacheRegionFactory.stats()));
+    }
+}
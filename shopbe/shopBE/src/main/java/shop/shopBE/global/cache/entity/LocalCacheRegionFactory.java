@@ -0,0 +1,71 @@
+package shop.shopBE.global.cache.entity;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import shop.shopBE.global.cache.property.EntityCacheProperties;
+import shop.shopBE.global.cache.response.EntityCacheRegionStats;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 인스턴스 메모리에 저장하는 Hibernate 2차 캐시.
+// 캐시는 인스턴스마다 따로 있으므로, 다른 인스턴스에서 바뀐 값은 리전의 보관 시간(ttlSeconds)이 지나야 반영된다.
+public class LocalCacheRegionFactory extends RegionFactoryTemplate {
+
+    private final EntityCacheProperties properties;
+    private final Map<String, LocalCacheStorage> storages = new ConcurrentHashMap<>();
+
+    public LocalCacheRegionFactory(EntityCacheProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return createStorage(regionConfig.getRegionName());
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return createStorage(regionName);
+    }
+
+    // 테이블 변경 시각 리전은 쿼리 캐시가 오래된 결과를 돌려주지 않게 하는 기준이므로 제거하거나 만료시키지 않는다.
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        LocalCacheStorage storage = new LocalCacheStorage(regionName, 0, 0);
+        storages.put(regionName, storage);
+        return storage;
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        storages.values().forEach(LocalCacheStorage::release);
+        storages.clear();
+    }
+
+    public List<EntityCacheRegionStats> stats() {
+        return storages.values().stream()
+                .map(LocalCacheStorage::stats)
+                .sorted(Comparator.comparing(EntityCacheRegionStats::region))
+                .toList();
+    }
+
+    private LocalCacheStorage createStorage(String regionName) {
+        LocalCacheStorage storage = new LocalCacheStorage(regionName,
+                properties.maxEntriesOf(regionName), properties.ttlSecondsOf(regionName));
+        storages.put(regionName, storage);
+        return storage;
+    }
+}
@@ -0,0 +1,135 @@
+package shop.shopBE.global.cache.entity;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import shop.shopBE.global.cache.response.EntityCacheRegionStats;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 2차 캐시 리전 하나의 저장소. 항목 수로 크기를 제한하고, 가장 오래 사용되지 않은 항목부터 제거한다. (LRU)
+// ttlSeconds가 0 이하이면 시간으로 만료시키지 않는다. (쿼리 캐시의 테이블 변경 시각 리전)
+public class LocalCacheStorage implements DomainDataStorageAccess {
+
+    private final String regionName;
+    private final int maxEntries;
+    private final long ttlSeconds;
+    private final long ttlNanos;
+
+    // accessOrder = true: 조회할 때마다 맨 뒤로 이동
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public LocalCacheStorage(String regionName, int maxEntries, long ttlSeconds) {
+        this.regionName = regionName;
+        this.maxEntries = maxEntries;
+        this.ttlSeconds = ttlSeconds;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null || isExpired(entry)) {
+                if (entry != null) {
+                    entries.remove(key);
+                }
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        lock.lock();
+        try {
+            entries.put(key, new Entry(value, System.nanoTime()));
+            puts.increment();
+
+            // 최대 항목 수를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+            Iterator<Map.Entry<Object, Entry>> iterator = entries.entrySet().iterator();
+            while (maxEntries > 0 && entries.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            return entry != null && !isExpired(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void evictData() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void evictData(Object key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void release() {
+        evictData();
+    }
+
+    public EntityCacheRegionStats stats() {
+        int size;
+        lock.lock();
+        try {
+            size = entries.size();
+        } finally {
+            lock.unlock();
+        }
+
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        return new EntityCacheRegionStats(regionName, size, maxEntries, ttlSeconds, hitCount, missCount,
+                puts.sum(), evictions.sum(), total == 0 ? 0.0 : (double) hitCount / total);
+    }
+
+    private boolean isExpired(Entry entry) {
+        return ttlNanos > 0 && System.nanoTime() - entry.storedAtNanos() > ttlNanos;
+    }
+
+    private record Entry(Object value, long storedAtNanos) {
+    }
+}
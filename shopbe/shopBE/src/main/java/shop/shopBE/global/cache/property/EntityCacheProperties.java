@@ -0,0 +1,39 @@
+package shop.shopBE.global.cache.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+// Hibernate 2차 캐시(엔티티, 쿼리 결과) 설정
+@ConfigurationProperties(prefix = "entity-cache")
+public record EntityCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") int maxEntries,      // 리전별 기본 최대 항목 수
+        @DefaultValue("300") long ttlSeconds,       // 리전별 기본 보관 시간 (다른 인스턴스의 변경을 반영하기 위한 최대 시간)
+        @DefaultValue Map<String, Region> regions) { // 리전 이름별 설정 (비어 있으면 기본 설정 사용)
+
+    public EntityCacheProperties {
+        if (regions.isEmpty()) {
+            regions = Map.of(
+                    "member", new Region(10000, 600L),
+                    "cart", new Region(10000, 600L),
+                    "likes", new Region(10000, 600L),
+                    "default-query-results-region", new Region(20000, 60L)
+            );
+        }
+    }
+
+    public int maxEntriesOf(String regionName) {
+        Region region = regions.get(regionName);
+        return region != null && region.maxEntries() != null ? region.maxEntries() : maxEntries;
+    }
+
+    public long ttlSecondsOf(String regionName) {
+        Region region = regions.get(regionName);
+        return region != null && region.ttlSeconds() != null ? region.ttlSeconds() : ttlSeconds;
+    }
+
+    public record Region(Integer maxEntries, Long ttlSeconds) {
+    }
+}
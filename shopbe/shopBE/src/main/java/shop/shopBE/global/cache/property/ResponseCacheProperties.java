@@ -0,0 +1,13 @@
+package shop.shopBE.global.cache.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "response-cache")
+public record ResponseCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("33554432") long maxBytes,        // 캐시 전체 최대 크기 (32MB)
+        @DefaultValue("1048576") long maxEntryBytes,    // 응답 하나의 최대 크기 (1MB)
+        @DefaultValue("30") long ttlSeconds,            // 다른 인스턴스의 변경을 반영하기 위한 최대 보관 시간
+        @DefaultValue("1024") int gzipMinBytes) {       // 이 크기 이상일 때만 gzip 본문을 미리 만든다
+}
@@ -0,0 +1,13 @@
+package shop.shopBE.global.cache.response;
+
+// 2차 캐시 리전별 통계
+public record EntityCacheRegionStats(String region,
+                                     int size,
+                                     int maxEntries,
+                                     long ttlSeconds,
+                                     long hits,
+                                     long misses,
+                                     long puts,
+                                     long evictions,
+                                     double hitRatio) {
+}
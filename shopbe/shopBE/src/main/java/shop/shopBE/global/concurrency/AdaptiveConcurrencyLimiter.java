@@ -0,0 +1,127 @@
+package shop.shopBE.global.concurrency;
+
+import shop.shopBE.global.concurrency.response.ConcurrencyLimitSnapshot;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+// 한 요청 그룹의 동시 처리 수를 AIMD 방식으로 조절한다.
+// 1. 한도만큼의 요청이 기준 시간 안에 끝나면 한도를 1 늘린다. (maxLimit까지)
+// 2. 기준 시간보다 느리거나 서버 오류로 끝난 요청, 또는 끝나는 시점에 커넥션을 기다리는 스레드가 있으면 한도에 backoffRatio를 곱해 줄인다. (minLimit까지)
+//    같은 원인으로 동시에 느려진 요청들 때문에 연달아 줄어들지 않도록, 한 번 줄인 뒤 기준 시간 동안은 다시 줄이지 않는다.
+// 한도를 넘는 요청은 기다리지 않고 바로 거절한다.
+public class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final BooleanSupplier connectionShortage;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger successesSinceIncrease = new AtomicInteger();
+    private final AtomicLong lastDecreaseNanos;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder overloaded = new LongAdder();
+
+    public AdaptiveConcurrencyLimiter(String name, int minLimit, int initialLimit, int maxLimit,
+                                      long latencyThresholdMs, double backoffRatio, BooleanSupplier connectionShortage) {
+        this(name, minLimit, initialLimit, maxLimit, latencyThresholdMs, backoffRatio, connectionShortage, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(String name, int minLimit, int initialLimit, int maxLimit,
+                               long latencyThresholdMs, double backoffRatio, BooleanSupplier connectionShortage,
+                               LongSupplier nanoClock) {
+        this.name = name;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+        this.backoffRatio = backoffRatio;
+        this.connectionShortage = connectionShortage;
+        this.nanoClock = nanoClock;
+        this.limit = new AtomicInteger(Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit)));
+        this.lastDecreaseNanos = new AtomicLong(nanoClock.getAsLong() - latencyThresholdNanos);
+    }
+
+    // 처리 자리를 얻으면 Permit을, 한도가 찼으면 empty를 반환한다. Permit은 요청이 끝나면 반드시 release해야 한다.
+    public Optional<Permit> tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                rejected.increment();
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return Optional.of(new Permit(nanoClock.getAsLong()));
+            }
+        }
+    }
+
+    private void release(long startNanos, boolean failed) {
+        inFlight.decrementAndGet();
+        long now = nanoClock.getAsLong();
+        // 커넥션이 모자라면 요청 수가 아니라 커넥션 사용량이 한계이므로, 응답이 빨라도 한도를 줄인다.
+        if (failed || now - startNanos > latencyThresholdNanos || connectionShortage.getAsBoolean()) {
+            onOverload(now);
+        } else {
+            onSuccess();
+        }
+    }
+
+    private void onSuccess() {
+        int current = limit.get();
+        if (current >= maxLimit) {
+            return;
+        }
+        if (successesSinceIncrease.incrementAndGet() >= current) {
+            successesSinceIncrease.set(0);
+            limit.compareAndSet(current, current + 1);
+        }
+    }
+
+    private void onOverload(long now) {
+        overloaded.increment();
+        long last = lastDecreaseNanos.get();
+        if (now - last < latencyThresholdNanos || !lastDecreaseNanos.compareAndSet(last, now)) {
+            return;
+        }
+        successesSinceIncrease.set(0);
+        limit.updateAndGet(current -> Math.max(minLimit, Math.min(current - 1, (int) (current * backoffRatio))));
+    }
+
+    public ConcurrencyLimitSnapshot snapshot() {
+        return new ConcurrencyLimitSnapshot(name, limit.get(), minLimit, maxLimit, inFlight.get(),
+                accepted.sum(), rejected.sum(), overloaded.sum());
+    }
+
+    // 얻은 처리 자리. 시작 시각을 들고 있다가 끝날 때 걸린 시간으로 한도를 조절한다.
+    public final class Permit {
+
+        private final long startNanos;
+        private boolean released = false;
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        // failed: 서버 오류로 끝났는지. 두 번 호출해도 한 번만 반납된다.
+        public void release(boolean failed) {
+            if (released) {
+                return;
+            }
+            released = true;
+            AdaptiveConcurrencyLimiter.this.release(startNanos, failed);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package shop.shopBE.global.concurrency;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import shop.shopBE.global.concurrency.property.ConcurrencyLimitProperties;
+import shop.shopBE.global.concurrency.response.ConcurrencyLimitSnapshot;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+// 요청 그룹과 그룹별 동시 처리 제한기를 보관한다.
+@Component
+public class ConcurrencyLimitRegistry {
+
+    private final List<RouteGroup> routeGroups;
+
+    public ConcurrencyLimitRegistry(ConcurrencyLimitProperties properties,
+                                    ObjectProvider<HikariDataSource> dataSourceProvider) {
+        BooleanSupplier connectionShortage = connectionShortage(dataSourceProvider.getIfUnique());
+        this.routeGroups = properties.groups().stream()
+                .map(group -> RouteGroup.from(group, properties.backoffRatio(), connectionShortage))
+                .toList();
+    }
+
+    // 쓰기 DB 커넥션 풀에서 커넥션을 기다리는 스레드가 있는지 (풀을 알 수 없으면 항상 false)
+    private static BooleanSupplier connectionShortage(HikariDataSource dataSource) {
+        if (dataSource == null) {
+            return () -> false;
+        }
+        return () -> {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool != null && pool.getThreadsAwaitingConnection() > 0;
+        };
+    }
+
+    // 요청이 속한 그룹의 제한기 (어느 그룹에도 속하지 않으면 null)
+    public AdaptiveConcurrencyLimiter find(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (RouteGroup routeGroup : routeGroups) {
+            if (routeGroup.matches(request, path)) {
+                return routeGroup.limiter();
+            }
+        }
+        return null;
+    }
+
+    public List<ConcurrencyLimitSnapshot> snapshots() {
+        return routeGroups.stream()
+                .map(routeGroup -> routeGroup.limiter().snapshot())
+                .toList();
+    }
+
+    private record RouteGroup(List<PathPattern> pathPatterns,
+                              Set<String> methods,
+                              AdaptiveConcurrencyLimiter limiter) {
+
+        static RouteGroup from(ConcurrencyLimitProperties.Group group, double backoffRatio,
+                               BooleanSupplier connectionShortage) {
+            return new RouteGroup(
+                    group.paths().stream()
+                            .map(PathPatternParser.defaultInstance::parse)
+                            .toList(),
+                    group.methods().stream()
+                            .map(String::toUpperCase)
+                            .collect(Collectors.toUnmodifiableSet()),
+                    new AdaptiveConcurrencyLimiter(group.name(), group.minLimit(), group.initialLimit(), group.maxLimit(),
+                            group.latencyThresholdMs(), backoffRatio, connectionShortage)
+            );
+        }
+
+        boolean matches(HttpServletRequest request, PathContainer path) {
+            if (!methods.isEmpty() && !methods.contains(request.getMethod())) {
+                return false;
+            }
+            for (PathPattern pathPattern : pathPatterns) {
+                if (pathPattern.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
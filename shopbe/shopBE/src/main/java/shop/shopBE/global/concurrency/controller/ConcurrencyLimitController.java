@@ -0,0 +1,29 @@
+package shop.shopBE.global.concurrency.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import shop.shopBE.global.concurrency.ConcurrencyLimitRegistry;
+import shop.shopBE.global.concurrency.response.ConcurrencyLimitSnapshot;
+import shop.shopBE.global.response.ResponseFormat;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "동시 처리 제한", description = "요청 그룹별 동시 처리 제한 현황 API")
+public class ConcurrencyLimitController {
+
+    private final ConcurrencyLimitRegistry concurrencyLimitRegistry;
+
+    @GetMapping("/admin/concurrency-limits")
+    @Operation(summary = "그룹별 동시 처리 한도 조회", description = "관리자는 요청 그룹별 현재 한도, 처리 중인 요청 수, 누적 처리/거절 수를 조회할 수 있다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseFormat<List<ConcurrencyLimitSnapshot>>> getConcurrencyLimits() {
+        return ResponseEntity.ok().body(ResponseFormat.of("동시 처리 한도 조회 성공", concurrencyLimitRegistry.snapshots()));
+    }
+}
@@ -0,0 +1,16 @@
+package shop.shopBE.global.concurrency.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import shop.shopBE.global.exception.code.ExceptionCode;
+
+@AllArgsConstructor
+@Getter
+public enum ConcurrencyLimitExceptionCode implements ExceptionCode {
+
+    SERVICE_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+
+    private final HttpStatus httpStatus;
+    private final String message;
+}
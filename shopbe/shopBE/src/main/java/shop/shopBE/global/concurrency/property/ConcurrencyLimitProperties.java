@@ -0,0 +1,43 @@
+package shop.shopBE.global.concurrency.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+// 요청 그룹별 동시 처리 수 제한 설정
+// 한도는 요청 수로 미리 나누지 않고 AIMD로 맞춘다. 캐시에서 바로 응답하는 요청처럼 커넥션을 쓰지 않는 요청이 많아 요청 수로는 DB 몫을 알 수 없다.
+// 대신 커넥션 풀에 대기가 생기거나 커넥션 대기 시간 때문에 응답이 느려지면 한도를 줄이므로, 그룹별 몫은 실제 커넥션 사용량에 맞춰진다.
+@ConfigurationProperties(prefix = "concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0.9") double backoffRatio,       // 지연/실패가 감지되면 한도에 곱하는 값
+        @DefaultValue List<Group> groups) {             // 비어 있으면 기본 그룹 사용
+
+    public ConcurrencyLimitProperties {
+        if (groups.isEmpty()) {
+            // 먼저 일치하는 그룹이 적용된다. (/products/autocomplete는 상품 상세보다 먼저 검사)
+            groups = List.of(
+                    new Group("catalog", List.of("/products", "/products/autocomplete", "/search", "/search/*",
+                            "/season/**", "/men/**", "/women/**", "/children/**", "/banners"), List.of("GET"), 8, 32, 128, 500),
+                    new Group("detail", List.of("/products/*"), List.of("GET"), 8, 32, 128, 300),
+                    new Group("cart", List.of("/cart", "/cart/**"), List.of(), 4, 16, 64, 300),
+                    new Group("likes", List.of("/likes/**"), List.of(), 4, 16, 64, 300),
+                    new Group("checkout", List.of("/orderHistory", "/orderHistory/**", "/orderProduct/**",
+                            "/destination", "/destination/**"), List.of(), 4, 16, 64, 1000),
+                    new Group("admin", List.of("/members", "/member/*", "/authority", "/authority/**", "/banner", "/banner/**",
+                            "/product", "/product/**", "/seller/**", "/admin/**"), List.of(), 2, 8, 32, 2000)
+            );
+        }
+    }
+
+    public record Group(
+            String name,
+            List<String> paths,         // PathPattern 형식 (예: /cart/**)
+            List<String> methods,       // 비어 있으면 모든 메서드
+            int minLimit,               // 아무리 줄어도 이만큼은 동시에 처리
+            int initialLimit,
+            int maxLimit,               // 그룹이 동시에 처리할 수 있는 최대 요청 수
+            long latencyThresholdMs) {  // 응답이 이보다 느리면 과부하로 보고 한도를 줄인다.
+    }
+}
@@ -0,0 +1,12 @@
+package shop.shopBE.global.concurrency.response;
+
+// 그룹별 동시 처리 한도와 누적 처리/거절 수
+public record ConcurrencyLimitSnapshot(String group,
+                                       int limit,
+                                       int minLimit,
+                                       int maxLimit,
+                                       int inFlight,
+                                       long accepted,
+                                       long rejected,
+                                       long overloaded) {
+}
@@ -1,5 +1,6 @@
 package shop.shopBE.global.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
@@ -10,7 +11,9 @@ import shop.shopBE.global.logtrace.material.LogTrace;
 @EnableAspectJAutoProxy
 public class AopConfig {
 
+    // domain 패키지의 모든 빈에 프록시를 만들므로 기동이 느려진다. 빠른 기동이 필요한 인스턴스는 log-trace.enabled=false로 끈다.
     @Bean
+    @ConditionalOnProperty(prefix = "log-trace", name = "enabled", havingValue = "true", matchIfMissing = true)
     public LogTraceAspect logTraceAspect(LogTrace logTrace) {
         return new LogTraceAspect(logTrace);
     }
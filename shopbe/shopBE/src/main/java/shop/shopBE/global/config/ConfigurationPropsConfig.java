@@ -2,9 +2,16 @@ package shop.shopBE.global.config;
 
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import shop.shopBE.global.cache.property.EntityCacheProperties;
+import shop.shopBE.global.cache.property.ResponseCacheProperties;
+import shop.shopBE.global.concurrency.property.ConcurrencyLimitProperties;
+import shop.shopBE.global.config.datasource.property.DataSourceRoutingProperties;
+import shop.shopBE.global.ratelimit.property.RateLimitProperties;
 import shop.shopBE.global.utils.jwt.property.JwtProperties;
+import shop.shopBE.global.warmup.property.WarmupProperties;
 
 @Configuration
-@EnableConfigurationProperties(value = JwtProperties.class)
+@EnableConfigurationProperties(value = {JwtProperties.class, ResponseCacheProperties.class, DataSourceRoutingProperties.class, RateLimitProperties.class,
+        ConcurrencyLimitProperties.class, EntityCacheProperties.class, WarmupProperties.class})
 public class ConfigurationPropsConfig {
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package shop.shopBE.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import shop.shopBE.global.cache.entity.LocalCacheRegionFactory;
+import shop.shopBE.global.cache.property.EntityCacheProperties;
+
+// Hibernate 2차 캐시 설정. @Cache가 붙은 엔티티(Member, Cart, Likes)와
+// 캐시 힌트를 준 쿼리의 결과를 LocalCacheRegionFactory에 저장한다.
+// 엔티티 변경은 READ_WRITE 전략으로 커밋 시점에 반영되고, JPQL 벌크 수정/삭제는 해당 엔티티 리전을 비운다.
+// Product, ProductDetail은 캐시하지 않는다. 재고, 판매량, 좋아요 수를 변경 감지로 수정하는데, 캐시는 인스턴스마다 따로 있어서
+// 다른 인스턴스가 커밋한 값보다 오래된 캐시 값으로 행 전체를 덮어쓰게 된다. (좋아요마다 벌크 수정으로 리전도 비워진다)
+@Configuration
+public class EntityCacheConfig {
+
+    @Bean
+    public LocalCacheRegionFactory localCacheRegionFactory(EntityCacheProperties properties) {
+        return new LocalCacheRegionFactory(properties);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernatePropertiesCustomizer(EntityCacheProperties properties,
+                                                                                   LocalCacheRegionFactory localCacheRegionFactory) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, properties.enabled());
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, properties.enabled());
+            if (properties.enabled()) {
+                hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, localCacheRegionFactory);
+            }
+        };
+    }
+}
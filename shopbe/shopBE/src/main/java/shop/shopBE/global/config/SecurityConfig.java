@@ -17,6 +17,7 @@ import shop.shopBE.global.config.security.entry.JwtAuthenticationEntryPoint;
 import shop.shopBE.global.config.security.service.CustomOauth2Service;
 import shop.shopBE.global.filter.JwtAuthenticationFilter;
 import shop.shopBE.global.filter.JwtResponseFilter;
+import shop.shopBE.global.filter.RateLimitFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -29,6 +30,7 @@ public class SecurityConfig {
     private final CustomOauth2Service customOauth2Service;
     private final CustomSuccessHandler customSuccessHandler;
     private final JwtResponseFilter jwtResponseFilter;
+    private final RateLimitFilter rateLimitFilter;
 
 
     private final String[] WHITE_LIST = {
@@ -41,7 +43,9 @@ public class SecurityConfig {
             "/member/logout",
             "/banners/**",
             "/refresh/**",
-            "/products/**"
+            "/products/**",
+            "/files/**",
+            "/health/**"
     };
 
     @Bean
@@ -53,6 +57,7 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable) // CSRF 보호 기능 비활성화
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class) // JWT 필터를 UsernamePasswordAuthenticationFilter 전에 추가
                 .addFilterBefore(jwtResponseFilter, JwtAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class) // 인증 정보(회원 id)로 요청 수를 제한하므로 JWT 필터 다음에 추가
                 .exceptionHandling(exceptionHandling -> {
                     exceptionHandling
                             .authenticationEntryPoint(jwtAuthenticationEntryPoint) //인증되지 않은 사용자가 보호된 리소스에 액세스 할 때 호출
@@ -0,0 +1,104 @@
+package shop.shopBE.global.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import shop.shopBE.global.config.datasource.property.DataSourceRoutingProperties;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// datasource.routing.enabled=true 일 때 읽기 전용 트랜잭션을 레플리카로 보낸다.
+// primary는 기존 spring.datasource.* 설정, 레플리카는 datasource.routing.replicas[n].* 설정을 사용한다.
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaDataSources replicaDataSources(DataSourceRoutingProperties properties,
+                                                 DataSourceProperties dataSourceProperties) {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            DataSourceRoutingProperties.Replica replica = properties.replicas().get(i);
+            String name = replica.name() != null ? replica.name() : "replica-" + i;
+
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(replica.url())
+                    .username(replica.username())
+                    .password(replica.password())
+                    .build();
+            dataSource.setPoolName(name);
+            dataSource.setReadOnly(true);
+
+            replicas.put(name, dataSource);
+        }
+        return new ReplicaDataSources(replicas);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(DataSourceRoutingProperties properties,
+                                               ReplicaDataSources replicaDataSources) {
+        return new ReplicaLagMonitor(new LinkedHashMap<String, DataSource>(replicaDataSources.dataSources()),
+                properties.maxReplicaLagMs());
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(DataSourceRoutingProperties properties,
+                                                       ReplicaLagMonitor replicaLagMonitor) {
+        return new ReadYourWritesTracker(properties.readYourWritesWindowMs(), replicaLagMonitor);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaDataSources replicaDataSources,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        Map<Object, Object> targetDataSources = new LinkedHashMap<>();
+        targetDataSources.put(RoutingDataSource.PRIMARY, primaryDataSource);
+        targetDataSources.putAll(replicaDataSources.dataSources());
+
+        RoutingDataSource routingDataSource = new RoutingDataSource(replicaLagMonitor, readYourWritesTracker);
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagCheckScheduler replicaLagCheckScheduler(ReplicaLagMonitor replicaLagMonitor,
+                                                             ReadYourWritesTracker readYourWritesTracker) {
+        return new ReplicaLagCheckScheduler(replicaLagMonitor, readYourWritesTracker);
+    }
+
+    public record ReplicaLagCheckScheduler(ReplicaLagMonitor replicaLagMonitor,
+                                           ReadYourWritesTracker readYourWritesTracker) {
+
+        @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval-ms:5000}")
+        public void check() {
+            replicaLagMonitor.check();
+            readYourWritesTracker.evictExpired();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package shop.shopBE.global.config.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 회원별 마지막 쓰기 커밋 시각을 기록한다.
+// 쓰기 직후의 조회(장바구니 담은 뒤 장바구니 조회 등)가 아직 반영되지 않은 레플리카로 가지 않도록 한다.
+// 메모리 기록은 쓰기를 처리한 서버에만 있으므로, 커밋 시각(epoch ms)을 쿠키로도 내려서
+// 다음 요청이 다른 서버로 가도 같은 판단을 할 수 있게 한다. (서버 간 시계 차이는 기간에 비해 작다고 가정)
+public class ReadYourWritesTracker {
+
+    private static final String COOKIE_NAME = "last_write_at";
+
+    private final Map<Long, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final long windowNanos;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadYourWritesTracker(long windowMs, ReplicaLagMonitor replicaLagMonitor) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    public void recordWrite(Long memberId) {
+        lastWriteNanos.put(memberId, System.nanoTime());
+        writeCookie(System.currentTimeMillis());
+    }
+
+    // 고정 시간에 현재 관측된 레플리카 지연을 더한 시간 안에 쓴 적이 있으면 primary에서 읽는다.
+    public boolean requiresPrimary(Long memberId) {
+        long window = currentWindowNanos();
+        Long writtenAt = lastWriteNanos.get(memberId);
+        if (writtenAt != null && System.nanoTime() - writtenAt < window) {
+            return true;
+        }
+
+        Long cookieWrittenAt = readCookie();
+        return cookieWrittenAt != null
+                && System.currentTimeMillis() - cookieWrittenAt < TimeUnit.NANOSECONDS.toMillis(window);
+    }
+
+    // 기간이 지난 기록 정리
+    public void evictExpired() {
+        long now = System.nanoTime();
+        long window = currentWindowNanos();
+        lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt >= window);
+    }
+
+    private long currentWindowNanos() {
+        return windowNanos + TimeUnit.MILLISECONDS.toNanos(replicaLagMonitor.getMaxObservedLagMs());
+    }
+
+    // 요청 스레드에서 커밋된 경우에만 쿠키를 내린다. (백그라운드 작업의 쓰기는 제외)
+    private void writeCookie(long epochMillis) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, Long.toString(epochMillis))
+                .httpOnly(true)
+                .secure(true)
+                .path("/")
+                .sameSite("None")
+                .maxAge(Duration.ofNanos(currentWindowNanos()).toSeconds() + 1)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private Long readCookie() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        Cookie[] cookies = attributes.getRequest().getCookies();
+        if (cookies == null) {
+            return null;
+        }
+
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,14 @@
+package shop.shopBE.global.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.util.Map;
+
+// 레플리카 커넥션 풀 (이름 -> 풀, 설정 순서 유지). 컨텍스트가 종료되면 모두 닫는다.
+public record ReplicaDataSources(Map<String, HikariDataSource> dataSources) implements AutoCloseable {
+
+    @Override
+    public void close() {
+        dataSources.values().forEach(HikariDataSource::close);
+    }
+}
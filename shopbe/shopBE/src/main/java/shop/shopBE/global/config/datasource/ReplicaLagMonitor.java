@@ -0,0 +1,96 @@
+package shop.shopBE.global.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 레플리카의 복제 지연을 주기적으로 확인하고, 읽기를 보낼 레플리카를 고른다.
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final Map<String, DataSource> replicas;
+    private final long maxReplicaLagMs;
+
+    private final Map<String, Long> lagMs = new ConcurrentHashMap<>();
+    private final List<String> healthyReplicas = new CopyOnWriteArrayList<>();
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private volatile long maxObservedLagMs = 0;
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, long maxReplicaLagMs) {
+        this.replicas = replicas;
+        this.maxReplicaLagMs = maxReplicaLagMs;
+        // 첫 확인 전에는 모든 레플리카를 사용
+        this.healthyReplicas.addAll(replicas.keySet());
+    }
+
+    // 정상 레플리카 중 하나를 돌아가며 반환한다. 없으면 null (primary 사용)
+    public String nextReplica() {
+        List<String> candidates = healthyReplicas;
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return candidates.get(Math.floorMod(roundRobin.getAndIncrement(), candidates.size()));
+        } catch (IndexOutOfBoundsException e) {
+            // 확인 도중 목록이 바뀐 경우
+            return null;
+        }
+    }
+
+    public long getMaxObservedLagMs() {
+        return maxObservedLagMs;
+    }
+
+    public Map<String, Long> getLagMs() {
+        return Map.copyOf(lagMs);
+    }
+
+    public void check() {
+        long maxLag = 0;
+        for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+            String name = replica.getKey();
+            Long lag = readLagMs(name, replica.getValue());
+
+            if (lag != null && lag <= maxReplicaLagMs) {
+                lagMs.put(name, lag);
+                maxLag = Math.max(maxLag, lag);
+                if (!healthyReplicas.contains(name)) {
+                    healthyReplicas.add(name);
+                    log.info("레플리카 읽기 재개 name={}, lag={}ms", name, lag);
+                }
+            } else {
+                lagMs.remove(name);
+                if (healthyReplicas.remove(name)) {
+                    log.warn("레플리카 읽기 제외 name={}, lag={}", name, lag == null ? "unknown" : lag + "ms");
+                }
+            }
+        }
+        maxObservedLagMs = maxLag;
+    }
+
+    // Seconds_Behind_Source (MySQL 8.0.22 이상). 복제가 멈췄거나 확인할 수 없으면 null
+    private Long readLagMs(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                return null;
+            }
+
+            long secondsBehind = resultSet.getLong("Seconds_Behind_Source");
+            return resultSet.wasNull() ? null : secondsBehind * 1000;
+        } catch (Exception e) {
+            log.warn("레플리카 지연 확인 실패 name={}, message={}", name, e.getMessage());
+            return null;
+        }
+    }
+}
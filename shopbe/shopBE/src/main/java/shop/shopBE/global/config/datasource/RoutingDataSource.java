@@ -0,0 +1,74 @@
+package shop.shopBE.global.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import shop.shopBE.global.config.security.mapper.token.AuthToken;
+
+// readOnly 트랜잭션은 레플리카로, 나머지는 primary로 보낸다.
+// LazyConnectionDataSourceProxy 뒤에서 사용해야 트랜잭션의 readOnly 여부가 정해진 뒤에 커넥션을 고른다.
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    // 트랜잭션마다 쓰기 기록용 동기화를 한 번만 등록하기 위한 리소스 키
+    private static final Object WRITE_RECORDER_KEY = new Object();
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public RoutingDataSource(ReplicaLagMonitor replicaLagMonitor, ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long memberId = currentMemberId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteRecorder(memberId);
+            return PRIMARY;
+        }
+
+        // 최근에 쓴 회원의 읽기는 레플리카 지연과 관계없이 primary에서 처리
+        if (memberId != null && readYourWritesTracker.requiresPrimary(memberId)) {
+            return PRIMARY;
+        }
+
+        String replica = replicaLagMonitor.nextReplica();
+        return replica == null ? PRIMARY : replica;
+    }
+
+    // 쓰기 트랜잭션이 커밋되면 회원의 쓰기 시각을 기록한다.
+    private void registerWriteRecorder(Long memberId) {
+        if (memberId == null
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_RECORDER_KEY)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(WRITE_RECORDER_KEY, memberId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite(memberId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_RECORDER_KEY);
+            }
+        });
+    }
+
+    private Long currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthToken authToken) {
+            return authToken.getId();
+        }
+        return null;
+    }
+}
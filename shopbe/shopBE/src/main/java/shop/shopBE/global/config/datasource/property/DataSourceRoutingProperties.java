@@ -0,0 +1,22 @@
+package shop.shopBE.global.config.datasource.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "datasource.routing")
+public record DataSourceRoutingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("1000") long readYourWritesWindowMs, // 회원이 쓰기 후 이 시간 동안은 읽기도 primary에서 처리
+        @DefaultValue("5000") long maxReplicaLagMs,        // 지연이 이보다 큰 레플리카는 읽기에서 제외
+        @DefaultValue("5000") long lagCheckIntervalMs) {
+
+    public record Replica(
+            String name,
+            String url,
+            String username,
+            String password) {
+    }
+}
@@ -0,0 +1,76 @@
+package shop.shopBE.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import shop.shopBE.global.concurrency.AdaptiveConcurrencyLimiter;
+import shop.shopBE.global.concurrency.ConcurrencyLimitRegistry;
+import shop.shopBE.global.concurrency.exception.ConcurrencyLimitExceptionCode;
+import shop.shopBE.global.concurrency.property.ConcurrencyLimitProperties;
+import shop.shopBE.global.response.ResponseFormat;
+import shop.shopBE.global.warmup.WarmupToken;
+
+import java.io.IOException;
+import java.util.Optional;
+
+// 요청 그룹(상품 목록, 상품 상세, 장바구니, 찜, 주문, 관리)별로 동시에 처리하는 요청 수를 제한한다.
+// 한 그룹이 느려져 한도가 차면 그 그룹의 요청만 바로 503으로 거절해서, 톰캣 스레드와 DB 커넥션을 다른 그룹(특히 주문)이 쓸 수 있게 남긴다.
+// 시큐리티 필터 체인(인증, 요청 수 제한)과 응답 캐시 필터를 모두 지난 요청만 처리 자리를 차지하도록 마지막 서블릿 필터로 실행한다.
+@Order(Ordered.LOWEST_PRECEDENCE)
+@Component
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final ConcurrencyLimitRegistry concurrencyLimitRegistry;
+    private final ConcurrencyLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final WarmupToken warmupToken;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // 기동 중 워밍업 요청은 제한하지 않는다.
+        return !properties.enabled() || warmupToken.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter limiter = concurrencyLimitRegistry.find(request);
+        if (limiter == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<AdaptiveConcurrencyLimiter.Permit> permit = limiter.tryAcquire();
+        if (permit.isEmpty()) {
+            sendOverloaded(response);
+            return;
+        }
+
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            permit.get().release(failed);
+        }
+    }
+
+    private void sendOverloaded(HttpServletResponse response) throws IOException {
+        ConcurrencyLimitExceptionCode code = ConcurrencyLimitExceptionCode.SERVICE_OVERLOADED;
+
+        response.setStatus(code.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType("application/json; charset=UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(
+                ResponseFormat.fail(code.getHttpStatus().value(), code.getMessage())));
+    }
+}
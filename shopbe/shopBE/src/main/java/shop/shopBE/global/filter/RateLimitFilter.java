@@ -0,0 +1,144 @@
+package shop.shopBE.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import shop.shopBE.global.config.security.mapper.token.AuthToken;
+import shop.shopBE.global.ratelimit.RateLimiter;
+import shop.shopBE.global.ratelimit.exception.RateLimitExceptionCode;
+import shop.shopBE.global.ratelimit.property.RateLimitProperties;
+import shop.shopBE.global.response.ResponseFormat;
+import shop.shopBE.global.warmup.WarmupToken;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 검색, 찜, 장바구니처럼 반복 호출에 민감한 요청의 수를 그룹별로 제한한다.
+// JwtAuthenticationFilter 다음에 실행되어 로그인 회원은 회원 id로, 비로그인 요청은 IP로 구분한다.
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final WarmupToken warmupToken;
+    private final List<RouteGroup> routeGroups;
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, ObjectMapper objectMapper,
+                           WarmupToken warmupToken) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.warmupToken = warmupToken;
+        this.routeGroups = properties.groups().stream()
+                .map(RouteGroup::from)
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // 기동 중 워밍업 요청은 제한하지 않는다.
+        return !properties.enabled() || warmupToken.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RouteGroup routeGroup = findRouteGroup(request);
+        if (routeGroup == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(routeGroup.name() + ":" + clientKey(request),
+                routeGroup.emissionIntervalNanos(), routeGroup.burstToleranceNanos());
+        if (waitNanos > 0) {
+            sendTooManyRequests(response, waitNanos);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RouteGroup findRouteGroup(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (RouteGroup routeGroup : routeGroups) {
+            if (routeGroup.matches(request, path)) {
+                return routeGroup;
+            }
+        }
+        return null;
+    }
+
+    // 로그인 회원은 회원 id, 비로그인 요청은 IP (프록시 뒤라면 server.forward-headers-strategy로 실제 IP가 들어오게 설정)
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthToken authToken) {
+            return "m" + authToken.getId();
+        }
+        return "ip" + request.getRemoteAddr();
+    }
+
+    private void sendTooManyRequests(HttpServletResponse response, long waitNanos) throws IOException {
+        RateLimitExceptionCode code = RateLimitExceptionCode.TOO_MANY_REQUESTS;
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+
+        response.setStatus(code.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("application/json; charset=UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(
+                ResponseFormat.fail(code.getHttpStatus().value(), code.getMessage())));
+    }
+
+    private record RouteGroup(String name,
+                              List<PathPattern> pathPatterns,
+                              Set<String> methods,
+                              String queryParam,
+                              long emissionIntervalNanos,
+                              long burstToleranceNanos) {
+
+        static RouteGroup from(RateLimitProperties.Group group) {
+            long emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / group.permitsPerSecond());
+            return new RouteGroup(
+                    group.name(),
+                    group.paths().stream()
+                            .map(PathPatternParser.defaultInstance::parse)
+                            .toList(),
+                    group.methods().stream()
+                            .map(String::toUpperCase)
+                            .collect(Collectors.toUnmodifiableSet()),
+                    group.queryParam(),
+                    emissionIntervalNanos,
+                    emissionIntervalNanos * Math.max(0, group.burst() - 1)
+            );
+        }
+
+        boolean matches(HttpServletRequest request, PathContainer path) {
+            if (!methods.isEmpty() && !methods.contains(request.getMethod())) {
+                return false;
+            }
+            if (queryParam != null && request.getParameter(queryParam) == null) {
+                return false;
+            }
+            for (PathPattern pathPattern : pathPatterns) {
+                if (pathPattern.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
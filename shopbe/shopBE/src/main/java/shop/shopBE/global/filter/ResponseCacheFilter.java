@@ -0,0 +1,153 @@
+package shop.shopBE.global.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import shop.shopBE.global.cache.CachedResponse;
+import shop.shopBE.global.cache.ResponseCache;
+import shop.shopBE.global.cache.property.ResponseCacheProperties;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+// 비로그인 사용자의 공개 조회 요청(상품 목록, 상품 상세, 배너) 응답을 직렬화된 바이트로 캐싱한다.
+// 캐시에 있으면 컨트롤러와 Jackson을 거치지 않고 바이트를 그대로 쓴다.
+// 캐시에서 응답하는 요청이 동시 처리 자리를 차지하지 않도록 ConcurrencyLimitFilter보다 먼저 실행한다.
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern CACHEABLE_PATH = Pattern.compile("^/(products(/\\d+)?|banners)$");
+    private static final String CACHE_STATUS_HEADER = "X-Response-Cache";
+
+    private final ResponseCache responseCache;
+    private final ResponseCacheProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // 로그인 사용자는 회원별로 응답이 달라질 수 있으므로 캐시하지 않는다.
+        return !properties.enabled()
+                || !HttpMethod.GET.matches(request.getMethod())
+                || request.getHeader(HttpHeaders.AUTHORIZATION) != null
+                || !CACHEABLE_PATH.matcher(getPath(request)).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = createKey(request);
+
+        CachedResponse cachedResponse = responseCache.get(key);
+        if (cachedResponse != null) {
+            writeCachedResponse(request, response, cachedResponse);
+            return;
+        }
+
+        // 컨트롤러가 응답을 만드는 동안 상품이 바뀌어 무효화되면, 바뀌기 전의 응답을 캐시에 넣지 않는다.
+        long generation = responseCache.generation();
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, responseWrapper);
+
+            if (responseWrapper.getStatus() == HttpServletResponse.SC_OK && isJson(responseWrapper.getContentType())) {
+                responseCache.put(key, createCachedResponse(responseWrapper), generation);
+            }
+            response.setHeader(CACHE_STATUS_HEADER, "MISS");
+        } finally {
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void writeCachedResponse(HttpServletRequest request, HttpServletResponse response, CachedResponse cachedResponse)
+            throws IOException {
+        response.setHeader(CACHE_STATUS_HEADER, "HIT");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (cachedResponse.cacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cachedResponse.cacheControl());
+        }
+
+        // ETag, Last-Modified 헤더를 설정하고, 클라이언트가 가진 응답과 같으면 304
+        if (new ServletWebRequest(request, response).checkNotModified(cachedResponse.eTag(), cachedResponse.lastModified())) {
+            return;
+        }
+
+        byte[] body = cachedResponse.body();
+        if (cachedResponse.gzipBody() != null && acceptsGzip(request)) {
+            body = cachedResponse.gzipBody();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cachedResponse.contentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private CachedResponse createCachedResponse(ContentCachingResponseWrapper responseWrapper) throws IOException {
+        byte[] body = responseWrapper.getContentAsByteArray();
+        byte[] gzipBody = body.length >= properties.gzipMinBytes() ? gzip(body) : null;
+
+        HttpHeaders headers = new HttpHeaders();
+        String lastModified = responseWrapper.getHeader(HttpHeaders.LAST_MODIFIED);
+        if (lastModified != null) {
+            headers.set(HttpHeaders.LAST_MODIFIED, lastModified);
+        }
+
+        return new CachedResponse(
+                body,
+                gzipBody,
+                responseWrapper.getContentType(),
+                responseWrapper.getHeader(HttpHeaders.ETAG),
+                headers.getLastModified(),
+                responseWrapper.getHeader(HttpHeaders.CACHE_CONTROL),
+                System.nanoTime());
+    }
+
+    // 경로 + 이름순으로 정렬한 쿼리 파라미터. 파라미터 순서가 달라도 같은 키가 된다.
+    private String createKey(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(getPath(request)).append('?');
+        Map<String, String[]> parameters = new TreeMap<>(request.getParameterMap());
+        parameters.forEach((name, values) -> {
+            for (String value : values) {
+                key.append(name).append('=').append(value).append('&');
+            }
+        });
+        return key.toString();
+    }
+
+    private String getPath(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private boolean isJson(String contentType) {
+        return contentType != null && contentType.contains("json");
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    private byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(body);
+        }
+        return outputStream.toByteArray();
+    }
+}
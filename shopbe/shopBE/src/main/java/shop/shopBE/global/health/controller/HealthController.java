@@ -0,0 +1,38 @@
+package shop.shopBE.global.health.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import shop.shopBE.global.response.ResponseFormat;
+
+// 로드밸런서/오케스트레이터용 상태 확인. 준비 상태는 워밍업(WarmupRunner)이 끝난 뒤 ACCEPTING_TRAFFIC이 된다.
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "상태 확인", description = "인스턴스 상태 확인 API")
+public class HealthController {
+
+    private final ApplicationAvailability applicationAvailability;
+
+    @GetMapping("/health/liveness")
+    @Operation(summary = "생존 상태 조회", description = "애플리케이션이 정상 동작 중이면 200, 아니면 503을 반환한다.")
+    public ResponseEntity<ResponseFormat<LivenessState>> liveness() {
+        LivenessState state = applicationAvailability.getLivenessState();
+        HttpStatus status = state == LivenessState.CORRECT ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(ResponseFormat.of("생존 상태 조회", state));
+    }
+
+    @GetMapping("/health/readiness")
+    @Operation(summary = "준비 상태 조회", description = "트래픽을 받을 준비가 되었으면 200, 워밍업 중이거나 종료 중이면 503을 반환한다.")
+    public ResponseEntity<ResponseFormat<ReadinessState>> readiness() {
+        ReadinessState state = applicationAvailability.getReadinessState();
+        HttpStatus status = state == ReadinessState.ACCEPTING_TRAFFIC ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(ResponseFormat.of("준비 상태 조회", state));
+    }
+}
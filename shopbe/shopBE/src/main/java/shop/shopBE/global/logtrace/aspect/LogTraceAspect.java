@@ -15,20 +15,21 @@ public class LogTraceAspect {
 
     @Around("execution(* shop.shopBE.domain..*(..))")
     public Object execute(ProceedingJoinPoint joinPoint) throws Throwable {
-        TraceStatus status=null;
+        String message = joinPoint.getSignature().toShortString();
+        TraceStatus status = logTrace.begin(message);
 
+        Object result;
         try {
-            String message = joinPoint.getSignature().toShortString();
-            status = logTrace.begin(message);
-
-            Object result = joinPoint.proceed();
-
-            logTrace.end(status);
-            return result;
-        } catch (Exception e) {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            // Error까지 잡아서 trace를 정리해야 스레드(풀의 스레드 포함)에 이전 요청의 trace가 남지 않는다.
             logTrace.exception(status, e);
             throw e;
         }
+
+        // end()는 try 밖에서 호출한다. end()에서 예외가 나도 exception()으로 trace를 한 번 더 정리하지 않도록
+        logTrace.end(status);
+        return result;
     }
 
 }
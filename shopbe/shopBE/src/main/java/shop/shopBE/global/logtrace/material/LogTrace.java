@@ -25,21 +25,23 @@ public class LogTrace {
         complete(status, null);
     }
 
-    public void exception(TraceStatus status, Exception e) {
+    public void exception(TraceStatus status, Throwable e) {
         complete(status, e);
     }
 
-    private void complete(TraceStatus status, Exception e) {
-        Long stopTimeMs = System.currentTimeMillis();
-        long resultTimeMs = stopTimeMs - status.getStartTimeMs();
-        TraceId traceId = status.getTraceId();
-        if (e == null) {
-            log.info("[{}] {}{} time={}ms", traceId.getId(), addSpace(COMPLETE_PREFIX, traceId.getLevel()), status.getMessage(), resultTimeMs);
-        } else {
-            log.info("[{}] {}{} time={}ms ex={}", traceId.getId(), addSpace(EX_PREFIX, traceId.getLevel()), status.getMessage(), resultTimeMs, e.toString());
+    private void complete(TraceStatus status, Throwable e) {
+        try {
+            Long stopTimeMs = System.currentTimeMillis();
+            long resultTimeMs = stopTimeMs - status.getStartTimeMs();
+            TraceId traceId = status.getTraceId();
+            if (e == null) {
+                log.info("[{}] {}{} time={}ms", traceId.getId(), addSpace(COMPLETE_PREFIX, traceId.getLevel()), status.getMessage(), resultTimeMs);
+            } else {
+                log.info("[{}] {}{} time={}ms ex={}", traceId.getId(), addSpace(EX_PREFIX, traceId.getLevel()), status.getMessage(), resultTimeMs, e.toString());
+            }
+        } finally {
+            releaseTraceId();
         }
-
-        releaseTraceId();
     }
 
     private void syncTraceId() {
@@ -53,7 +55,7 @@ public class LogTrace {
 
     private void releaseTraceId() {
         TraceId traceId = traceIdHolder.get();
-        if (traceId.isFirstLevel()) {
+        if (traceId == null || traceId.isFirstLevel()) {
             traceIdHolder.remove();//destroy
         } else {
             traceIdHolder.set(traceId.createPreviousId());
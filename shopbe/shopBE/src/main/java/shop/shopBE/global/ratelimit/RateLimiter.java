@@ -0,0 +1,95 @@
+package shop.shopBE.global.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.shopBE.global.ratelimit.property.RateLimitProperties;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 키(그룹 + 회원/IP)별 토큰 버킷. 락 없이 CAS 한 번으로 판단한다.
+// 버킷마다 "다음 요청이 토큰 하나를 쓸 수 있게 되는 이론상 시각(TAT)" 하나만 저장한다. (GCRA, 토큰 버킷과 같은 동작)
+// - 요청 간격 T = 1 / 초당 토큰 수, 허용 오차 τ = (버킷 크기 - 1) * T
+// - max(TAT, now) - now <= τ 이면 허용하고 TAT를 max(TAT, now) + T로 옮긴다.
+@Slf4j
+@Component
+public class RateLimiter {
+
+    // 상한에 도달했을 때 요청 스레드에서 정리를 시도하는 최소 간격
+    private static final long INLINE_SWEEP_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final int maxBuckets;
+    private final LongSupplier nanoClock;
+    private final AtomicLong lastInlineSweepNanos;
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties) {
+        this(properties.maxBuckets(), System::nanoTime);
+    }
+
+    RateLimiter(int maxBuckets, LongSupplier nanoClock) {
+        this.maxBuckets = maxBuckets;
+        this.nanoClock = nanoClock;
+        this.lastInlineSweepNanos = new AtomicLong(nanoClock.getAsLong() - INLINE_SWEEP_INTERVAL_NANOS);
+    }
+
+    // 허용되면 0, 거절되면 다시 요청할 수 있을 때까지 남은 시간(나노초)을 반환한다.
+    public long tryAcquire(String key, long emissionIntervalNanos, long burstToleranceNanos) {
+        long now = nanoClock.getAsLong();
+
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            // 상한에 도달하면 토큰이 가득 찬 버킷을 먼저 비워 보고, 그래도 자리가 없으면 새 키는 거절한다. (fail closed)
+            // 새 키를 제한 없이 통과시키면 키를 바꿔 가며 보내는 요청이 상한에 도달한 뒤부터 전부 허용된다.
+            if (buckets.size() >= maxBuckets && (!sweepInline(now) || buckets.size() >= maxBuckets)) {
+                return emissionIntervalNanos;
+            }
+            bucket = buckets.computeIfAbsent(key, ignored -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long tat = bucket.get();
+            long base = Math.max(tat, now);
+            if (base - now > burstToleranceNanos) {
+                return base - burstToleranceNanos - now;
+            }
+            if (bucket.compareAndSet(tat, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    // TAT가 지난 버킷은 토큰이 가득 찬 새 버킷과 같으므로 지워도 제한 결과가 바뀌지 않는다.
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = nanoClock.getAsLong();
+        int before = buckets.size();
+        removeIdleBuckets(now);
+
+        if (before >= maxBuckets) {
+            log.warn("요청 제한 버킷 수가 상한에 도달했습니다. maxBuckets={}, 정리 후={}", maxBuckets, buckets.size());
+        }
+    }
+
+    // 요청마다 전체를 훑지 않도록 INLINE_SWEEP_INTERVAL_NANOS에 한 번만 정리한다. 정리했으면 true
+    private boolean sweepInline(long now) {
+        long last = lastInlineSweepNanos.get();
+        if (now - last < INLINE_SWEEP_INTERVAL_NANOS || !lastInlineSweepNanos.compareAndSet(last, now)) {
+            return false;
+        }
+        removeIdleBuckets(now);
+        return true;
+    }
+
+    private void removeIdleBuckets(long now) {
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+}
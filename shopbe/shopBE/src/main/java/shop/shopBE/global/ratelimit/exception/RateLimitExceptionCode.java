@@ -0,0 +1,16 @@
+package shop.shopBE.global.ratelimit.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import shop.shopBE.global.exception.code.ExceptionCode;
+
+@AllArgsConstructor
+@Getter
+public enum RateLimitExceptionCode implements ExceptionCode {
+
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+
+    private final HttpStatus httpStatus;
+    private final String message;
+}
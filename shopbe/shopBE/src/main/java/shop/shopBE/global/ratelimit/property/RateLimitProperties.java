@@ -0,0 +1,32 @@
+package shop.shopBE.global.ratelimit.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maxBuckets,   // 동시에 추적하는 (그룹, 회원/IP) 수의 상한
+        @DefaultValue List<Group> groups) {       // 비어 있으면 기본 그룹 사용
+
+    public RateLimitProperties {
+        if (groups.isEmpty()) {
+            groups = List.of(
+                    new Group("search", List.of("/products"), List.of("GET"), "search", 5, 20),
+                    new Group("likes", List.of("/likes/item", "/likes/item/**"), List.of("POST", "DELETE"), null, 5, 10),
+                    new Group("cart", List.of("/cart", "/cart/**"), List.of(), null, 10, 20)
+            );
+        }
+    }
+
+    public record Group(
+            String name,
+            List<String> paths,         // PathPattern 형식 (예: /cart/**)
+            List<String> methods,       // 비어 있으면 모든 메서드
+            String queryParam,          // 지정하면 이 파라미터가 있는 요청만 (예: 검색어)
+            double permitsPerSecond,    // 초당 채워지는 토큰 수
+            int burst) {                // 버킷 크기 (한 번에 몰아서 보낼 수 있는 요청 수)
+    }
+}
@@ -0,0 +1,161 @@
+package shop.shopBE.global.storage.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import shop.shopBE.global.exception.custom.CustomException;
+import shop.shopBE.global.utils.storage.LocalStorageBackend;
+import shop.shopBE.global.utils.storage.exception.StorageExceptionCode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// 로컬 저장소에 저장된 파일을 제공한다. (storage.type=local 일 때만 등록)
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+@Tag(name = "로컬 파일 제공", description = "로컬 저장소 파일 조회 API")
+public class LocalFileController {
+
+    // Tomcat NIO 커넥터의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 파일 이름이 내용 해시이므로 내용이 바뀌지 않는다. 오래 캐싱해도 된다.
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final LocalStorageBackend localStorageBackend;
+
+    @RequestMapping(value = "/files/{fileName}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    @Operation(summary = "파일 조회", description = "로컬 저장소의 파일을 반환한다. Range 요청과 ETag를 지원한다.")
+    public void getFile(@PathVariable("fileName") String fileName,
+                        HttpServletRequest request,
+                        HttpServletResponse response) throws IOException {
+        Path path = localStorageBackend.resolve(fileName);
+        if (!Files.isRegularFile(path)) {
+            throw new CustomException(StorageExceptionCode.FILE_NOT_FOUND);
+        }
+
+        long fileLength = Files.size(path);
+        String eTag = "\"" + StringUtils.stripFilenameExtension(fileName) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString());
+
+        if (matchesETag(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = fileLength - 1;
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        // If-Range가 현재 ETag와 다르면 Range를 무시하고 전체를 보낸다.
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(eTag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+
+            // 여러 구간 요청은 multipart 응답 대신 전체를 보낸다.
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                if (fileLength == 0 || !isSatisfiable(range, fileLength)) {
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + fileLength);
+                    return;
+                }
+
+                start = range.getRangeStart(fileLength);
+                end = range.getRangeEnd(fileLength);
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + fileLength);
+            }
+        }
+
+        long contentLength = end - start + 1;
+        response.setContentLengthLong(contentLength);
+
+        if (RequestMethod.HEAD.name().equals(request.getMethod()) || contentLength <= 0) {
+            return;
+        }
+
+        // 컨테이너가 sendfile을 지원하면 본문 복사를 커널에 맡긴다. (유저 영역 버퍼를 거치지 않음)
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        transfer(path, start, contentLength, response.getOutputStream());
+    }
+
+    // sendfile을 쓸 수 없는 경우 FileChannel.transferTo로 응답 스트림에 직접 전송
+    private void transfer(Path path, long start, long count, OutputStream outputStream) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = fileChannel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private boolean isSatisfiable(HttpRange range, long fileLength) {
+        try {
+            return range.getRangeStart(fileLength) < fileLength;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(eTag) || value.equals("W/" + eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
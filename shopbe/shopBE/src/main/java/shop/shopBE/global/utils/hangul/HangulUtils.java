@@ -0,0 +1,94 @@
+package shop.shopBE.global.utils.hangul;
+
+// 한글 음절 분해
+// 완성형 음절(가-힣)을 초성/중성/종성의 호환용 자모로 나누고, 겹모음과 겹받침은 입력 순서대로 기본 자모로 풀어쓴다.
+// 입력 중인 글자("나잌")와 완성된 글자("나이키")가 자모 단위로는 접두어 관계가 되도록 하기 위함이다.
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 단독으로 입력된 겹자모(호환용 자모)의 풀어쓰기
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_DECOMPOSED = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private static final String CHOSEONG_JAMO = String.join("", CHOSEONG);
+
+    private HangulUtils() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    // 초성으로 쓸 수 있는 자음인지 (ㄱ, ㄲ, ㄴ ... ㅎ)
+    public static boolean isChoseong(char c) {
+        return CHOSEONG_JAMO.indexOf(c) >= 0;
+    }
+
+    // 모든 글자가 초성 자음이면 초성 검색어로 본다. ("ㄴㅇㅋ")
+    public static boolean isChoseongOnly(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!isChoseong(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 음절을 자모로 풀어쓴다. 한글이 아닌 글자는 그대로 둔다. ("나잌" -> "ㄴㅏㅇㅣㅋ")
+    public static String toJamo(String value) {
+        StringBuilder builder = new StringBuilder(value.length() * 3);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                builder.append(CHOSEONG[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+                        .append(JUNGSEONG[(index % (JUNGSEONG_COUNT * JONGSEONG_COUNT)) / JONGSEONG_COUNT])
+                        .append(JONGSEONG[index % JONGSEONG_COUNT]);
+                continue;
+            }
+
+            int compound = COMPOUND_JAMO.indexOf(c);
+            builder.append(compound >= 0 ? COMPOUND_JAMO_DECOMPOSED[compound] : String.valueOf(c));
+        }
+        return builder.toString();
+    }
+
+    // 음절을 초성으로 바꾼다. 한글이 아닌 글자는 그대로 둔다. ("나이키" -> "ㄴㅇㅋ")
+    public static String toChoseong(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            builder.append(isSyllable(c)
+                    ? CHOSEONG[(c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]
+                    : String.valueOf(c));
+        }
+        return builder.toString();
+    }
+}
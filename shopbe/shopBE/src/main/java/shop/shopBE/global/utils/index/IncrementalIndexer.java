@@ -0,0 +1,142 @@
+package shop.shopBE.global.utils.index;
+
+import lombok.extern.slf4j.Slf4j;
+import shop.shopBE.global.utils.thread.WorkerThreads;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// id로 식별되는 데이터(상품 등)를 메모리 색인에 반영하는 작업
+// 시작 시 전체를 id 순서대로 읽어 색인을 만들고, 이후에는 바뀐 id만 다시 읽어 반영한다.
+// 색인 변경은 하나의 작업 스레드에서 처리하고, 실패하면 간격을 늘려가며 다시 시도한다.
+@Slf4j
+public abstract class IncrementalIndexer<T> {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 1_000;
+    private static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    private final String label;
+    private final ScheduledExecutorService executor;
+
+    // 실행 중에 들어온 변경은 한 번의 추가 실행으로 합친다.
+    private final Set<Long> changedIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private volatile boolean loaded = false;
+
+    // 연속 실패 횟수 (작업 스레드에서만 접근)
+    private int loadFailures = 0;
+    private int applyFailures = 0;
+
+    protected IncrementalIndexer(String threadName, String label, boolean virtualThreads) {
+        this.label = label;
+        this.executor = Executors.newSingleThreadScheduledExecutor(WorkerThreads.threadFactory(threadName, virtualThreads));
+    }
+
+    // id가 lastId보다 큰 데이터를 id 순서대로 최대 limit개 읽는다.
+    protected abstract List<T> findAfter(long lastId, int limit);
+
+    // 주어진 id의 데이터를 읽는다. 없어진 id는 결과에서 빠진다.
+    protected abstract List<T> findByIds(List<Long> ids);
+
+    protected abstract Long idOf(T item);
+
+    protected abstract void apply(T item);
+
+    protected abstract void remove(Long id);
+
+    // 전체 색인 생성이 한 번이라도 끝났는지
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public void start() {
+        executor.execute(this::loadAll);
+    }
+
+    public void markChanged(Long id) {
+        changedIds.add(id);
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::applyChanges);
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void loadAll() {
+        try {
+            long lastId = 0;
+            int count = 0;
+            List<T> items;
+            do {
+                items = findAfter(lastId, BATCH_SIZE);
+                for (T item : items) {
+                    apply(item);
+                    lastId = idOf(item);
+                }
+                count += items.size();
+            } while (items.size() == BATCH_SIZE);
+
+            loaded = true;
+            loadFailures = 0;
+            log.info("{} 색인 생성 완료 - {}개", label, count);
+        } catch (Exception e) {
+            long delay = retryDelay(++loadFailures);
+            log.error("{} 색인 생성 실패 - {}ms 후 다시 시도", label, delay, e);
+            schedule(this::loadAll, delay);
+        }
+    }
+
+    private void applyChanges() {
+        scheduled.set(false);
+        List<Long> ids = new ArrayList<>(changedIds);
+        changedIds.removeAll(ids);
+
+        try {
+            Map<Long, T> found = new HashMap<>();
+            for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+                for (T item : findByIds(chunk)) {
+                    found.put(idOf(item), item);
+                }
+            }
+
+            for (Long id : ids) {
+                T item = found.get(id);
+                if (item == null) {
+                    remove(id);
+                } else {
+                    apply(item);
+                }
+            }
+            applyFailures = 0;
+        } catch (Exception e) {
+            // 다시 넣어두고, 새 변경이 없어도 잠시 후 다시 시도한다.
+            changedIds.addAll(ids);
+            long delay = retryDelay(++applyFailures);
+            log.error("{} 색인 갱신 실패 - {}ms 후 다시 시도", label, delay, e);
+            if (scheduled.compareAndSet(false, true)) {
+                schedule(this::applyChanges, delay);
+            }
+        }
+    }
+
+    private long retryDelay(int failures) {
+        return Math.min(MAX_RETRY_DELAY_MILLIS, INITIAL_RETRY_DELAY_MILLIS << Math.min(failures - 1, 16));
+    }
+
+    private void schedule(Runnable task, long delayMillis) {
+        try {
+            executor.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+}
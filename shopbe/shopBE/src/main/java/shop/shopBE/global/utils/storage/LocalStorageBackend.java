@@ -0,0 +1,74 @@
+package shop.shopBE.global.utils.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import shop.shopBE.global.exception.custom.CustomException;
+import shop.shopBE.global.utils.storage.exception.StorageExceptionCode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+// 로컬 디스크에 파일을 저장한다. 클라우드 없이 개발/테스트하거나 사내 서버에 배포할 때 사용
+// 저장된 파일은 LocalFileController(/files/{name})가 제공한다.
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageBackend implements StorageBackend {
+
+    private final Path rootDir;
+    private final String baseUrl;
+
+    public LocalStorageBackend(@Value("${storage.local.root-dir:./uploads}") String rootDir,
+                               @Value("${storage.local.base-url:/files}") String baseUrl) throws IOException {
+        this.rootDir = Files.createDirectories(Path.of(rootDir).toAbsolutePath().normalize());
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    @Override
+    public void store(String name, InputStream inputStream, long size, String contentType) {
+        Path target = resolve(name);
+        try {
+            // 임시 파일에 다 쓴 뒤 이동해서, 읽는 쪽이 쓰다 만 파일을 보지 않도록 한다.
+            Path temp = Files.createTempFile(rootDir, ".upload-", ".tmp");
+            try {
+                Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new CustomException(StorageExceptionCode.FILE_IOE);
+        }
+    }
+
+    @Override
+    public void delete(String name) {
+        try {
+            Files.deleteIfExists(resolve(name));
+        } catch (IOException e) {
+            throw new RuntimeException("파일 삭제 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String getUrl(String name) {
+        return baseUrl + "/" + name;
+    }
+
+    // 객체 이름을 저장 경로로 변환한다. 루트 디렉토리 밖을 가리키는 이름은 허용하지 않는다.
+    public Path resolve(String name) {
+        if (name == null || name.isBlank() || name.startsWith(".")
+                || name.contains("/") || name.contains("\\")) {
+            throw new CustomException(StorageExceptionCode.INVALID_FILE_NAME);
+        }
+
+        Path path = rootDir.resolve(name).normalize();
+        if (!path.getParent().equals(rootDir)) {
+            throw new CustomException(StorageExceptionCode.INVALID_FILE_NAME);
+        }
+        return path;
+    }
+}
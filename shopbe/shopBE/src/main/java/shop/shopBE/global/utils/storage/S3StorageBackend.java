@@ -0,0 +1,92 @@
+package shop.shopBE.global.utils.storage;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import shop.shopBE.global.exception.custom.CustomException;
+import shop.shopBE.global.utils.storage.exception.S3ExceptionCode;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3StorageBackend implements StorageBackend {
+
+    // DeleteObjects 요청 한 번에 보낼 수 있는 최대 객체 수
+    private static final int MAX_DELETE_KEYS = 1000;
+
+    private final AmazonS3 amazonS3;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Override
+    public void store(String name, InputStream inputStream, long size, String contentType) {
+        try {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentType(contentType);
+            // 길이를 지정하지 않으면 SDK가 스트림 전체를 메모리에 버퍼링한다.
+            metadata.setContentLength(size);
+            amazonS3.putObject(new PutObjectRequest(bucket, name, inputStream, metadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead));
+        } catch (AmazonServiceException e) {
+            throw new CustomException(S3ExceptionCode.AWS_SERVICE_EXCEPTION);
+        } catch (AmazonClientException e) {
+            throw new CustomException(S3ExceptionCode.AWS_CLIENT_EXCEPTION);
+        }
+    }
+
+    @Override
+    public void delete(String name) {
+        try {
+            amazonS3.deleteObject(bucket, name);
+        } catch (AmazonServiceException e) {
+            throw new RuntimeException("AWS 서비스 오류: " + e.getMessage(), e);
+        } catch (AmazonClientException e) {
+            throw new RuntimeException("AWS 클라이언트 오류: " + e.getMessage(), e);
+        } catch (Exception e) {
+            throw new RuntimeException("파일 삭제 실패: " + e.getMessage(), e);
+        }
+    }
+
+    // 다중 객체 삭제 API로 최대 1000개씩 한 번에 삭제한다.
+    @Override
+    public List<String> deleteAll(List<String> names) {
+        List<String> failed = new ArrayList<>();
+        for (int from = 0; from < names.size(); from += MAX_DELETE_KEYS) {
+            List<String> chunk = names.subList(from, Math.min(from + MAX_DELETE_KEYS, names.size()));
+            DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                    .withKeys(chunk.toArray(String[]::new))
+                    .withQuiet(true);
+            try {
+                amazonS3.deleteObjects(request);
+            } catch (MultiObjectDeleteException e) {
+                e.getErrors().forEach(error -> failed.add(error.getKey()));
+            } catch (AmazonClientException e) {
+                log.warn("AWS 다중 객체 삭제 실패: {}", e.getMessage());
+                failed.addAll(chunk);
+            }
+        }
+        return failed;
+    }
+
+    // 리전에 맞는 버킷 URL을 SDK에서 받아온다.
+    @Override
+    public String getUrl(String name) {
+        return amazonS3.getUrl(bucket, name).toString();
+    }
+}
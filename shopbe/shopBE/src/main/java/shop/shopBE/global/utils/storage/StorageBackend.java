@@ -0,0 +1,30 @@
+package shop.shopBE.global.utils.storage;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+// 업로드된 파일을 실제로 저장하는 저장소. storage.type 설정(s3, local)에 따라 구현체가 선택된다.
+public interface StorageBackend {
+
+    // name: 저장소 안에서의 객체 이름, size: 스트림의 전체 길이
+    void store(String name, InputStream inputStream, long size, String contentType);
+
+    void delete(String name);
+
+    // 여러 객체를 삭제하고 삭제에 실패한 객체 이름을 반환한다.
+    default List<String> deleteAll(List<String> names) {
+        List<String> failed = new ArrayList<>();
+        for (String name : names) {
+            try {
+                delete(name);
+            } catch (RuntimeException e) {
+                failed.add(name);
+            }
+        }
+        return failed;
+    }
+
+    // 클라이언트가 파일에 접근할 URL
+    String getUrl(String name);
+}
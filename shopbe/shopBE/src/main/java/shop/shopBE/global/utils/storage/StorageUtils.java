@@ -0,0 +1,90 @@
+package shop.shopBE.global.utils.storage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+import shop.shopBE.domain.storedfile.service.StoredFileService;
+import shop.shopBE.global.exception.custom.CustomException;
+import shop.shopBE.global.utils.storage.exception.StorageExceptionCode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+@Component
+@RequiredArgsConstructor
+public class StorageUtils {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final StorageBackend storageBackend;
+    private final StoredFileService storedFileService;
+
+    public String uploadFile(MultipartFile multipartFile) {
+        // 파일 내용의 해시를 객체 이름으로 사용해서 같은 파일은 한 번만 저장한다.
+        String contentHash = hashContent(multipartFile);
+        String fileName = contentHash + getExtension(multipartFile.getOriginalFilename());
+        String fileUrl = storageBackend.getUrl(fileName);
+
+        // 이미 저장된 내용이면 참조 수만 증가시키고 처음 저장된 객체의 URL을 재사용
+        // 삭제 중인 내용이면 새 객체 이름을 받아 다시 저장한다.
+        StoredFileService.Reference reference = storedFileService.addReference(contentHash, fileName, fileUrl);
+        if (!reference.created()) {
+            return reference.fileUrl();
+        }
+
+        // 저장에 실패하면 방금 추가한 참조를 되돌린다. (참조 수가 0이 되면 삭제 워커가 행과 남은 조각을 정리)
+        // 저장한 뒤 호출한 쪽 트랜잭션이 롤백되면 StoredFileService가 객체를 삭제 대기열에 넣는다.
+        boolean stored = false;
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            storageBackend.store(reference.savedName(), inputStream, multipartFile.getSize(), multipartFile.getContentType());
+            stored = true;
+            return reference.fileUrl();
+        } catch (IOException e) {
+            throw new CustomException(StorageExceptionCode.FILE_IOE);
+        } finally {
+            if (!stored) {
+                storedFileService.removeReference(reference.savedName());
+            }
+        }
+    }
+
+    //fileName: 파일 객체의 이름 또는 업로드 시 반환된 파일 URL
+    public void deleteFile(String fileName) {
+        String objectName = getObjectName(fileName);
+
+        // 참조가 없어진 파일은 삭제 대기열에 등록되고, 커밋 이후 FileDeletionWorker가 지운다.
+        storedFileService.removeReference(objectName);
+    }
+
+    // 스트림을 한 번 읽으면서 SHA-256 해시를 계산한다. 파일 전체를 메모리에 올리지 않는다.
+    private String hashContent(MultipartFile multipartFile) {
+        try (DigestInputStream digestInputStream =
+                     new DigestInputStream(multipartFile.getInputStream(), MessageDigest.getInstance("SHA-256"))) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (digestInputStream.read(buffer) != -1) {
+                // 읽는 동안 해시가 갱신된다.
+            }
+            return HexFormat.of().formatHex(digestInputStream.getMessageDigest().digest());
+        } catch (IOException e) {
+            throw new CustomException(StorageExceptionCode.FILE_IOE);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // URL이 넘어온 경우 객체 이름만 추출
+    private String getObjectName(String fileName) {
+        int index = fileName.lastIndexOf('/');
+        return index < 0 ? fileName : fileName.substring(index + 1);
+    }
+
+    private String getExtension(String originalFilename) {
+        String extension = StringUtils.getFilenameExtension(originalFilename);
+        return extension == null ? "" : "." + extension.toLowerCase();
+    }
+
+}
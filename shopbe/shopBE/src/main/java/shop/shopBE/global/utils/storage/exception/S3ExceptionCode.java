@@ -1,4 +1,4 @@
-package shop.shopBE.global.utils.s3.exception;
+package shop.shopBE.global.utils.storage.exception;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -0,0 +1,20 @@
+package shop.shopBE.global.utils.storage.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import shop.shopBE.global.exception.code.ExceptionCode;
+
+@AllArgsConstructor
+@Getter
+public enum StorageExceptionCode implements ExceptionCode {
+
+    FILE_IOE(HttpStatus.SERVICE_UNAVAILABLE, "파일 처리 실패"),
+    FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "파일이 존재하지 않습니다."),
+    INVALID_FILE_NAME(HttpStatus.BAD_REQUEST, "잘못된 파일 이름입니다.");
+
+
+    private final HttpStatus httpStatus;
+    private final String message;
+
+}
@@ -0,0 +1,25 @@
+package shop.shopBE.global.utils.thread;
+
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
+
+// 애플리케이션 내부 작업 스레드 생성
+// spring.threads.virtual.enabled=true 이면 가상 스레드를, 아니면 데몬 플랫폼 스레드를 만든다.
+public final class WorkerThreads {
+
+    private WorkerThreads() {
+    }
+
+    public static ThreadFactory threadFactory(String name, boolean virtual) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(name + "-").getVirtualThreadFactory();
+        }
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
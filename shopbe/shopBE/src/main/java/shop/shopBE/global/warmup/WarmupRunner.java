@@ -0,0 +1,148 @@
+package shop.shopBE.global.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import shop.shopBE.domain.product.request.SortingOption;
+import shop.shopBE.domain.product.response.ProductCardViewModel;
+import shop.shopBE.domain.product.service.ProductService;
+import shop.shopBE.global.utils.thread.WorkerThreads;
+import shop.shopBE.global.warmup.property.WarmupProperties;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 기동 직후 자주 쓰이는 조회 요청을 미리 보내서 JIT 컴파일, Hibernate 쿼리 계획, 2차 캐시, 응답 캐시를 채운다.
+// 1. 카테고리 조합별로 모든 정렬 옵션의 첫 페이지 목록
+// 2. 배너 목록
+// 3. 인기 상품 topProductCount개의 상세
+// 요청은 같은 프로세스의 서버(localhost)로 보내므로 필터, 컨트롤러, 서비스를 실제 요청과 같은 경로로 거친다.
+// 단, WarmupToken 헤더를 붙여 요청 수/동시 처리 제한에서는 제외한다. (느린 워밍업 응답이 한도를 줄이지 않도록)
+// ApplicationRunner가 끝나야 준비 상태(ReadinessState.ACCEPTING_TRAFFIC)가 되므로, 워밍업이 끝나거나 제한 시간이 지난 뒤에 트래픽을 받는다.
+@Slf4j
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private final WarmupProperties properties;
+    private final WarmupToken warmupToken;
+    private final ProductService productService;
+    private final ApplicationContext applicationContext;
+    private final String contextPath;
+    private final boolean virtualThreads;
+
+    public WarmupRunner(WarmupProperties properties,
+                        WarmupToken warmupToken,
+                        ProductService productService,
+                        ApplicationContext applicationContext,
+                        @Value("${server.servlet.context-path:}") String contextPath,
+                        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.properties = properties;
+        this.warmupToken = warmupToken;
+        this.productService = productService;
+        this.applicationContext = applicationContext;
+        this.contextPath = contextPath;
+        this.virtualThreads = virtualThreads;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.enabled() || !(applicationContext instanceof WebServerApplicationContext webServerContext)) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + TimeUnit.SECONDS.toNanos(properties.timeoutSeconds());
+        String baseUrl = "http://localhost:" + webServerContext.getWebServer().getPort() + contextPath;
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.concurrency()),
+                WorkerThreads.threadFactory("warmup", virtualThreads));
+
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        try {
+            List<String> paths = warmupPaths();
+            for (int i = 0; i < properties.iterations() && System.nanoTime() < deadline; i++) {
+                List<Future<?>> futures = new ArrayList<>(paths.size());
+                for (String path : paths) {
+                    futures.add(executor.submit(() -> send(httpClient, URI.create(baseUrl + path), sent, failed)));
+                }
+                for (Future<?> future : futures) {
+                    future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                }
+            }
+        } catch (TimeoutException e) {
+            log.warn("워밍업 제한 시간({}초) 초과, 남은 요청을 중단합니다.", properties.timeoutSeconds());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            // 워밍업 실패로 기동을 막지 않는다.
+            log.warn("워밍업 실패", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("워밍업 완료 - 요청 {}건 (실패 {}건), {}ms", sent.get(), failed.get(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    private List<String> warmupPaths() {
+        List<String> paths = new ArrayList<>();
+        for (String categoryQuery : properties.categoryQueries()) {
+            String prefix = categoryQuery.isBlank() ? "/products?" : "/products?" + categoryQuery + "&";
+            for (SortingOption sortingOption : SortingOption.values()) {
+                paths.add(prefix + "sortingOption=" + sortingOption.name());
+            }
+        }
+
+        paths.add("/banners");
+
+        if (properties.topProductCount() > 0) {
+            productService.findProductCardViewsByCategorys(PageRequest.of(0, properties.topProductCount()),
+                            null, null, null, SortingOption.POPULAR, null)
+                    .forEach(cardView -> paths.add("/products/" + cardView.productId()));
+        }
+        return paths;
+    }
+
+    private void send(HttpClient httpClient, URI uri, AtomicInteger sent, AtomicInteger failed) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header(WarmupToken.HEADER, warmupToken.value())
+                .GET()
+                .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 500) {
+                failed.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.incrementAndGet();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+        } finally {
+            sent.incrementAndGet();
+        }
+    }
+}
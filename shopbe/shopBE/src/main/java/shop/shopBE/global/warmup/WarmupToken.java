@@ -0,0 +1,48 @@
+package shop.shopBE.global.warmup;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+
+// 워밍업 요청을 구분하는 프로세스별 임의 토큰
+// 워밍업 요청은 아직 JIT 컴파일 전이라 느리므로, 요청 수/동시 처리 제한에 걸리거나 한도를 줄이지 않도록 제한 필터에서 제외한다.
+// 토큰은 기동할 때마다 새로 만들어 외부에 알려지지 않고, 같은 장비(loopback)에서 온 요청만 인정한다.
+@Component
+public class WarmupToken {
+
+    public static final String HEADER = "X-Warmup-Token";
+
+    private final String value;
+
+    public WarmupToken() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        this.value = HexFormat.of().formatHex(bytes);
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public boolean matches(HttpServletRequest request) {
+        String header = request.getHeader(HEADER);
+        return header != null
+                && MessageDigest.isEqual(value.getBytes(StandardCharsets.UTF_8), header.getBytes(StandardCharsets.UTF_8))
+                && isLoopback(request.getRemoteAddr());
+    }
+
+    // getRemoteAddr는 IP 문자열이므로 DNS 조회가 일어나지 않는다.
+    private boolean isLoopback(String remoteAddr) {
+        try {
+            return remoteAddr != null && InetAddress.getByName(remoteAddr).isLoopbackAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+}
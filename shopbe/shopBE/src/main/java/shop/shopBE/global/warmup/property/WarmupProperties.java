@@ -0,0 +1,30 @@
+package shop.shopBE.global.warmup.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+// 기동 직후 워밍업 설정
+@ConfigurationProperties(prefix = "warmup")
+public record WarmupProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30") long timeoutSeconds,    // 워밍업 전체 제한 시간 (넘으면 중단하고 준비 완료로 전환)
+        @DefaultValue("3") int iterations,          // 같은 요청 묶음을 반복하는 횟수 (JIT 컴파일 유도)
+        @DefaultValue("2") int concurrency,         // 동시에 보내는 요청 수 (워밍업 요청은 동시 처리 제한을 받지 않음)
+        @DefaultValue("20") int topProductCount,    // 상세 조회를 미리 해 둘 인기 상품 수
+        @DefaultValue List<String> categoryQueries) { // 정렬 옵션별 첫 페이지를 미리 조회할 카테고리 조합 (비어 있으면 기본 조합 사용)
+
+    public WarmupProperties {
+        if (categoryQueries.isEmpty()) {
+            categoryQueries = List.of(
+                    "",
+                    "personCategory=MEN",
+                    "personCategory=WOMEN",
+                    "personCategory=CHILDREN",
+                    "seasonCategory=SUMMER",
+                    "seasonCategory=WINTER"
+            );
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package shop.shopBE.domain.autocomplete.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductNameTrieTest {
+
+    @Test
+    @DisplayName("접두어로 시작하는 상품을 찜 많은 순으로 추천한다.")
+    void suggestOrderedByLikeCount() {
+        ProductNameTrie trie = new ProductNameTrie(10);
+        trie.put(1L, "나이키 에어맥스", 5);
+        trie.put(2L, "나이키 조던", 20);
+        trie.put(3L, "뉴발란스 993", 50);
+
+        List<Long> productIds = productIds(trie.suggest("나이", 10));
+
+        assertEquals(List.of(2L, 1L), productIds);
+    }
+
+    @Test
+    @DisplayName("상품명 중간 단어로 시작해도 추천하고, 대소문자와 공백은 구분하지 않는다.")
+    void suggestByWordPrefix() {
+        ProductNameTrie trie = new ProductNameTrie(10);
+        trie.put(1L, "Nike  Air Max", 5);
+
+        assertEquals(List.of(1L), productIds(trie.suggest("air m", 10)));
+        assertEquals(List.of(1L), productIds(trie.suggest(" NIKE ", 10)));
+    }
+
+    @Test
+    @DisplayName("찜 수와 상품명 변경, 삭제가 추천 목록에 반영된다.")
+    void updateAndRemove() {
+        ProductNameTrie trie = new ProductNameTrie(2);
+        trie.put(1L, "운동화 A", 1);
+        trie.put(2L, "운동화 B", 2);
+        trie.put(3L, "운동화 C", 3);
+        assertEquals(List.of(3L, 2L), productIds(trie.suggest("운동", 10)));
+
+        trie.put(1L, "운동화 A", 10);
+        assertEquals(List.of(1L, 3L), productIds(trie.suggest("운동", 10)));
+
+        trie.remove(3L);
+        assertEquals(List.of(1L, 2L), productIds(trie.suggest("운동", 10)));
+
+        trie.put(1L, "슬리퍼 A", 10);
+        assertEquals(List.of(2L), productIds(trie.suggest("운동", 10)));
+        assertEquals(List.of(1L), productIds(trie.suggest("슬리", 10)));
+        assertTrue(trie.suggest("운동화 a", 10).isEmpty());
+    }
+
+    private List<Long> productIds(List<ProductNameTrie.Entry> entries) {
+        return entries.stream().map(ProductNameTrie.Entry::productId).toList();
+    }
+}
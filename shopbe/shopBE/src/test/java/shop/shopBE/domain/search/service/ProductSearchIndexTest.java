@@ -0,0 +1,51 @@
+package shop.shopBE.domain.search.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductSearchIndexTest {
+
+    @Test
+    @DisplayName("초성 검색어로 상품명 어디서든 일치하는 상품을 찾는다.")
+    void searchByChoseong() {
+        ProductSearchIndex index = new ProductSearchIndex();
+        index.put(1L, "나이키 에어맥스");
+        index.put(2L, "뉴발란스 993");
+
+        assertEquals(Set.of(1L), index.search("ㄴㅇㅋ", 10));
+        assertEquals(Set.of(1L), index.search("ㅁㅅ", 10));
+        assertEquals(Set.of(2L), index.search("ㄴㅂ", 10));
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자가 포함된 검색어도 자모 단위로 일치한다.")
+    void searchByPartialSyllable() {
+        ProductSearchIndex index = new ProductSearchIndex();
+        index.put(1L, "나이키 에어맥스");
+        index.put(2L, "나막신");
+
+        assertEquals(Set.of(1L), index.search("나잌", 10));
+        assertEquals(Set.of(1L, 2L), index.search("나", 10));
+        assertEquals(Set.of(1L), index.search("에어 맥", 10));
+        assertEquals(Set.of(2L), index.search("막시", 10));
+    }
+
+    @Test
+    @DisplayName("상품명 변경과 삭제가 색인에 반영된다.")
+    void updateAndRemove() {
+        ProductSearchIndex index = new ProductSearchIndex();
+        index.put(1L, "Air Force");
+
+        index.put(1L, "Jordan");
+        assertTrue(index.search("air", 10).isEmpty());
+        assertEquals(Set.of(1L), index.search("JOR", 10));
+
+        index.remove(1L);
+        assertTrue(index.search("jor", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+}
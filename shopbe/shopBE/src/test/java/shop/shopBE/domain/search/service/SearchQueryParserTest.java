@@ -0,0 +1,40 @@
+package shop.shopBE.domain.search.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import shop.shopBE.domain.product.entity.enums.PersonCategory;
+import shop.shopBE.domain.product.entity.enums.ProductCategory;
+import shop.shopBE.domain.product.entity.enums.SeasonCategory;
+import shop.shopBE.domain.search.response.ParsedSearchQuery;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchQueryParserTest {
+
+    private final SearchQueryParser parser = new SearchQueryParser();
+
+    @Test
+    @DisplayName("카테고리명과 동의어는 필터로 바꾸고 나머지 단어만 검색어로 남긴다.")
+    void parseCategories() {
+        assertEquals(new ParsedSearchQuery(SeasonCategory.WINTER, null, ProductCategory.BOOTS, null),
+                parser.parse("겨울 부츠", null, null, null));
+        assertEquals(new ParsedSearchQuery(null, PersonCategory.WOMEN, ProductCategory.SANDALS, "나이키"),
+                parser.parse("나이키 여자 샌달", null, null, null));
+        assertEquals(new ParsedSearchQuery(null, PersonCategory.CHILDREN, ProductCategory.OXFORD_SHOES, null),
+                parser.parse("아동 옥스퍼드 슈즈", null, null, null));
+    }
+
+    @Test
+    @DisplayName("붙여 쓴 카테고리명도 나누어 인식한다.")
+    void parseCompound() {
+        assertEquals(new ParsedSearchQuery(null, PersonCategory.WOMEN, ProductCategory.SANDALS, null),
+                parser.parse("여성샌들", null, null, null));
+    }
+
+    @Test
+    @DisplayName("요청에 지정된 카테고리와 다른 단어는 검색어로 남긴다.")
+    void keepConflictingWords() {
+        assertEquals(new ParsedSearchQuery(SeasonCategory.SUMMER, null, ProductCategory.BOOTS, "겨울"),
+                parser.parse("겨울 부츠", SeasonCategory.SUMMER, null, null));
+    }
+}
@@ -0,0 +1,78 @@
+package shop.shopBE.global.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    // 음수에서 시작해도 동작해야 한다. (nanoTime은 음수일 수 있음)
+    private final AtomicLong clock = new AtomicLong(-1_000 * MILLIS);
+    private final AtomicBoolean connectionShortage = new AtomicBoolean(false);
+
+    // 최소 1, 처음 2, 최대 4, 기준 100ms, 줄일 때 절반
+    private final AdaptiveConcurrencyLimiter limiter =
+            new AdaptiveConcurrencyLimiter("test", 1, 2, 4, 100, 0.5, connectionShortage::get, clock::get);
+
+    @Test
+    @DisplayName("한도가 차면 거절하고, 한도만큼 빠르게 끝나면 한도를 1 늘린다.")
+    void rejectWhenFullThenIncrease() {
+        AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire().orElseThrow();
+        AdaptiveConcurrencyLimiter.Permit second = limiter.tryAcquire().orElseThrow();
+        assertTrue(limiter.tryAcquire().isEmpty());
+
+        clock.addAndGet(10 * MILLIS);
+        first.release(false);
+        second.release(false);
+
+        assertEquals(3, limiter.snapshot().limit());
+        assertEquals(0, limiter.snapshot().inFlight());
+        assertEquals(1, limiter.snapshot().rejected());
+    }
+
+    @Test
+    @DisplayName("느린 요청이 있으면 한도를 줄이고, 기준 시간 동안은 다시 줄이지 않는다.")
+    void backoffOncePerThreshold() {
+        AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire().orElseThrow();
+        AdaptiveConcurrencyLimiter.Permit second = limiter.tryAcquire().orElseThrow();
+
+        clock.addAndGet(200 * MILLIS);
+        first.release(false);
+        second.release(false);
+        assertEquals(1, limiter.snapshot().limit());
+        assertEquals(2, limiter.snapshot().overloaded());
+
+        // 최소 한도 아래로는 줄지 않는다.
+        clock.addAndGet(200 * MILLIS);
+        limiter.tryAcquire().orElseThrow().release(true);
+        assertEquals(1, limiter.snapshot().limit());
+    }
+
+    @Test
+    @DisplayName("응답이 빨라도 커넥션을 기다리는 스레드가 있으면 한도를 줄인다.")
+    void backoffOnConnectionShortage() {
+        connectionShortage.set(true);
+
+        clock.addAndGet(10 * MILLIS);
+        limiter.tryAcquire().orElseThrow().release(false);
+
+        assertEquals(1, limiter.snapshot().limit());
+        assertEquals(1, limiter.snapshot().overloaded());
+    }
+
+    @Test
+    @DisplayName("같은 처리 자리를 두 번 반납해도 한 번만 반납된다.")
+    void releaseOnlyOnce() {
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire().orElseThrow();
+        permit.release(false);
+        permit.release(false);
+
+        assertEquals(0, limiter.snapshot().inFlight());
+    }
+}
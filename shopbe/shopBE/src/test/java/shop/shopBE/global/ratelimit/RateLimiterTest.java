@@ -0,0 +1,66 @@
+package shop.shopBE.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private final RateLimiter rateLimiter = new RateLimiter(100, clock::get);
+
+    @Test
+    @DisplayName("버킷 크기만큼은 한 번에 허용하고, 그 다음 요청은 토큰이 채워질 때까지 거절한다.")
+    void burstThenRefill() {
+        // 초당 1개, 버킷 크기 3
+        long interval = SECOND;
+        long tolerance = 2 * SECOND;
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("k", interval, tolerance));
+        }
+        assertEquals(SECOND, rateLimiter.tryAcquire("k", interval, tolerance));
+
+        clock.addAndGet(SECOND);
+        assertEquals(0, rateLimiter.tryAcquire("k", interval, tolerance));
+        assertTrue(rateLimiter.tryAcquire("k", interval, tolerance) > 0);
+
+        // 다른 키는 따로 센다.
+        assertEquals(0, rateLimiter.tryAcquire("other", interval, tolerance));
+    }
+
+    @Test
+    @DisplayName("토큰이 가득 찬 버킷만 정리된다.")
+    void evictIdleBuckets() {
+        rateLimiter.tryAcquire("idle", SECOND, 0);
+        clock.addAndGet(2 * SECOND);
+        rateLimiter.tryAcquire("busy", SECOND, 0);
+
+        rateLimiter.evictIdleBuckets();
+
+        assertEquals(1, rateLimiter.size());
+        assertTrue(rateLimiter.tryAcquire("busy", SECOND, 0) > 0);
+    }
+
+    @Test
+    @DisplayName("버킷 수가 상한에 도달하면 가득 찬 버킷을 비워 새 키를 받고, 비울 버킷이 없으면 새 키를 거절한다.")
+    void failClosedAtMaxBuckets() {
+        RateLimiter limited = new RateLimiter(2, clock::get);
+        limited.tryAcquire("a", SECOND, 0);
+        limited.tryAcquire("b", SECOND, 0);
+
+        // 두 버킷 모두 토큰을 쓴 상태이므로 비울 수 없다.
+        assertEquals(SECOND, limited.tryAcquire("c", SECOND, 0));
+        assertEquals(2, limited.size());
+
+        // 시간이 지나 토큰이 가득 찬 버킷은 비우고 새 키를 받는다.
+        clock.addAndGet(2 * SECOND);
+        assertEquals(0, limited.tryAcquire("c", SECOND, 0));
+        assertEquals(1, limited.size());
+    }
+}